@@ -0,0 +1,85 @@
+package com.astronaut.benchmarks;
+
+import com.astronaut.index.OccupancyBitmap;
+import com.astronaut.models.FlexibleTask;
+import com.astronaut.models.Priority;
+import com.astronaut.scheduling.AutoScheduleConfig;
+import com.astronaut.scheduling.AutoScheduler;
+import com.astronaut.scheduling.PlacementPlan;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Time to plan a batch of flexible tasks into a partly booked day with a fixed number of
+// orderings, searched on the calling thread or fanned out over the common fork/join pool. The
+// time budget is set far above the run time so both modes evaluate the same plans.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AutoScheduleBenchmark {
+  public enum Search {
+    SEQUENTIAL,
+    PARALLEL
+  }
+
+  private static final long SEED = 42L;
+  private static final int PLANS = 64;
+
+  @Param({"SEQUENTIAL", "PARALLEL"})
+  private Search search;
+
+  @Param({"50", "300"})
+  private int tasks;
+
+  private List<FlexibleTask> batch;
+  private OccupancyBitmap occupancy;
+  private AutoScheduler scheduler;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(SEED);
+    occupancy = new OccupancyBitmap();
+    for (int i = 0; i < 40; i++) {
+      int start = random.nextInt(1400);
+      occupancy.occupy(start, start + 5 + random.nextInt(20));
+    }
+    Priority[] priorities = Priority.values();
+    batch = new ArrayList<>(tasks);
+    for (int i = 0; i < tasks; i++) {
+      int duration = 1 + random.nextInt(20);
+      int earliest = random.nextInt(1300);
+      int latest = Math.min(1439, earliest + duration + random.nextInt(120));
+      batch.add(
+          new FlexibleTask(
+              "Flexible " + i,
+              duration,
+              priorities[random.nextInt(priorities.length)],
+              LocalTime.of(earliest / 60, earliest % 60),
+              LocalTime.of(latest / 60, latest % 60)));
+    }
+    int threshold = search == Search.PARALLEL ? 1 : Integer.MAX_VALUE;
+    scheduler = new AutoScheduler(new AutoScheduleConfig(60_000, threshold, PLANS));
+  }
+
+  @Benchmark
+  public PlacementPlan plan() {
+    return scheduler.plan(batch, occupancy);
+  }
+}
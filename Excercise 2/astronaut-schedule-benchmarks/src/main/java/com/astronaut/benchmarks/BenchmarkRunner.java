@@ -0,0 +1,22 @@
+package com.astronaut.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Entry point of benchmarks.jar. Accepts the usual JMH options and, unless told otherwise,
+// writes results as JSON to jmh-results.json so runs can be compared for regressions.
+public class BenchmarkRunner {
+  public static void main(String[] args) throws Exception {
+    List<String> arguments = new ArrayList<>(Arrays.asList(args));
+    if (!arguments.contains("-rf")) {
+      arguments.add("-rf");
+      arguments.add("json");
+    }
+    if (!arguments.contains("-rff")) {
+      arguments.add("-rff");
+      arguments.add("jmh-results.json");
+    }
+    org.openjdk.jmh.Main.main(arguments.toArray(new String[0]));
+  }
+}
@@ -0,0 +1,26 @@
+package com.astronaut.benchmarks;
+
+import com.astronaut.exceptions.TaskConflictException;
+import com.astronaut.models.Task;
+import com.astronaut.patterns.creational.singleton.ScheduleManager;
+import com.astronaut.utils.LogLevel;
+import com.astronaut.utils.Logger;
+import java.util.List;
+
+final class BenchmarkSupport {
+  static final long SEED = 20_240_601L;
+
+  private BenchmarkSupport() {}
+
+  // Resets the shared schedule and loads it; logging is limited to warnings so console output
+  // does not dominate the measurement.
+  static ScheduleManager loadSchedule(List<Task> tasks) throws TaskConflictException {
+    Logger.getInstance().setLevel(LogLevel.WARN);
+    ScheduleManager manager = ScheduleManager.getInstance();
+    manager.clear();
+    for (Task task : tasks) {
+      manager.addTask(task);
+    }
+    return manager;
+  }
+}
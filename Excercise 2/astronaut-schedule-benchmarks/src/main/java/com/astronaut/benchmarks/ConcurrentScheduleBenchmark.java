@@ -0,0 +1,89 @@
+package com.astronaut.benchmarks;
+
+import com.astronaut.exceptions.TaskConflictException;
+import com.astronaut.exceptions.TaskNotFoundException;
+import com.astronaut.models.Task;
+import com.astronaut.patterns.creational.singleton.ScheduleManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Many clients sharing one schedule. Compare runs with "-t 1", "-t 2", "-t 4", ... to see how
+// throughput scales with threads: readers share the read lock, while each writer adds and
+// removes a task in its own free slot. This only measures throughput; writers racing for the
+// same slot are checked by ScheduleManagerConcurrencyTest.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentScheduleBenchmark {
+  private static final int SCHEDULE_SIZE = 1000;
+
+  @State(Scope.Benchmark)
+  public static class SharedSchedule {
+    private ScheduleManager manager;
+    private Task[] gapTasks;
+    private final AtomicInteger nextWriter = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() throws TaskConflictException {
+      ScheduleDataGenerator generator = new ScheduleDataGenerator(BenchmarkSupport.SEED, SCHEDULE_SIZE);
+      List<Task> tasks = generator.scheduledTasks();
+      manager = BenchmarkSupport.loadSchedule(tasks);
+      gapTasks = generator.gapTasks(SCHEDULE_SIZE);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class WriterSlot {
+    private Task[] ownTasks;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp(SharedSchedule schedule) {
+      // Copies of one gap task per writer thread. Writers get different gaps until there are more
+      // threads than gaps; past that two writers share one.
+      Task gap = schedule.gapTasks[schedule.nextWriter.getAndIncrement() % schedule.gapTasks.length];
+      ownTasks = new Task[16];
+      for (int i = 0; i < ownTasks.length; i++) {
+        ownTasks[i] = new Task(gap.getDescription(), gap.getStartTime(), gap.getEndTime(), gap.getPriority());
+      }
+    }
+  }
+
+  @Benchmark
+  public List<Task> readSchedule(SharedSchedule schedule) {
+    return schedule.manager.getAllTasks();
+  }
+
+  @Benchmark
+  public boolean checkSlot(SharedSchedule schedule, WriterSlot slot) {
+    Task task = slot.ownTasks[0];
+    return schedule.manager.isSlotFree(task.getStartTime(), task.getEndTime());
+  }
+
+  @Benchmark
+  public void addAndRemove(SharedSchedule schedule, WriterSlot slot)
+      throws TaskConflictException, TaskNotFoundException {
+    Task task = slot.ownTasks[slot.cursor++ & 15];
+    try {
+      schedule.manager.addTask(task);
+    } catch (TaskConflictException e) {
+      // Another writer shares this gap; the attempt still exercised the write path.
+      return;
+    }
+    schedule.manager.removeTaskById(task.getId());
+  }
+}
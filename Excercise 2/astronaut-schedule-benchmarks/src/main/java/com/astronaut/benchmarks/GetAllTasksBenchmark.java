@@ -0,0 +1,62 @@
+package com.astronaut.benchmarks;
+
+import com.astronaut.exceptions.TaskConflictException;
+import com.astronaut.exceptions.TaskNotFoundException;
+import com.astronaut.models.Task;
+import com.astronaut.patterns.behavioral.strategy.PrioritySortStrategy;
+import com.astronaut.patterns.behavioral.strategy.StartTimeSortStrategy;
+import com.astronaut.patterns.creational.singleton.ScheduleManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Viewing the schedule under each sort strategy, both for an unchanged schedule and right after
+// a mutation has invalidated the previous view.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GetAllTasksBenchmark {
+  @Param({"100", "1000", "10000"})
+  private int scheduleSize;
+
+  @Param({"START_TIME", "PRIORITY"})
+  private String strategy;
+
+  private ScheduleManager manager;
+  private String[] ids;
+  private int cursor;
+
+  @Setup(Level.Trial)
+  public void setUp() throws TaskConflictException {
+    List<Task> tasks = new ScheduleDataGenerator(BenchmarkSupport.SEED, scheduleSize).scheduledTasks();
+    manager = BenchmarkSupport.loadSchedule(tasks);
+    manager.setSortStrategy(
+        "PRIORITY".equals(strategy) ? new PrioritySortStrategy() : new StartTimeSortStrategy());
+    ids = tasks.stream().map(Task::getId).toArray(String[]::new);
+  }
+
+  @Benchmark
+  public List<Task> unchangedSchedule() {
+    return manager.getAllTasks();
+  }
+
+  @Benchmark
+  public List<Task> afterMutation() throws TaskNotFoundException {
+    manager.markTaskCompletedById(ids[cursor++ % ids.length]);
+    return manager.getAllTasks();
+  }
+}
@@ -0,0 +1,73 @@
+package com.astronaut.benchmarks;
+
+import com.astronaut.utils.AsyncLogConfig;
+import com.astronaut.utils.LogLevel;
+import com.astronaut.utils.LogOverflowPolicy;
+import com.astronaut.utils.Logger;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Logger throughput. Run with "-prof gc" to see allocation per call: the disabled parameterized
+// calls should report ~0 B/op while the concatenating form pays for the string it builds.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggerBenchmark {
+  @State(Scope.Benchmark)
+  public static class DisabledDebug {
+    private Logger logger;
+    private String description = "Morning Exercise";
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      logger = Logger.getInstance();
+      logger.setLevel(LogLevel.INFO);
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class AsyncInfo {
+    private Logger logger;
+    private String description = "Morning Exercise";
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      logger = Logger.getInstance();
+      logger.setLevel(LogLevel.INFO);
+      logger.enableAsync(new AsyncLogConfig(16_384, LogOverflowPolicy.BLOCK, 256 * 1024, 200, false));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      logger.disableAsync();
+    }
+  }
+
+  @Benchmark
+  public void disabledDebugParameterized(DisabledDebug state) {
+    state.logger.debug("Task added: {}", state.description);
+  }
+
+  @Benchmark
+  public void disabledDebugConcatenated(DisabledDebug state) {
+    state.logger.debug("Task added: " + state.description);
+  }
+
+  @Benchmark
+  public void asyncInfo(AsyncInfo state) {
+    state.logger.info("Task added: {}", state.description);
+  }
+}
@@ -0,0 +1,81 @@
+package com.astronaut.benchmarks;
+
+import com.astronaut.models.Priority;
+import com.astronaut.models.Task;
+import com.astronaut.store.MappedSchedule;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Opening a multi-crew archive and answering one question about it, against building every
+// Task up front. Archive tasks overlap freely, so they are random whole-minute intervals.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MappedScheduleBenchmark {
+  private static final LocalTime QUERY_START = LocalTime.of(9, 0);
+  private static final LocalTime QUERY_END = LocalTime.of(9, 5);
+
+  @Param({"1000000"})
+  private int size;
+
+  private Path file;
+
+  @Setup(Level.Trial)
+  public void writeArchive() throws IOException {
+    Random random = new Random(BenchmarkSupport.SEED);
+    Priority[] priorities = Priority.values();
+    List<Task> tasks = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      int start = random.nextInt(24 * 60 - 60);
+      tasks.add(
+          new Task(
+              "Archived task " + i,
+              LocalTime.ofSecondOfDay(start * 60L),
+              LocalTime.ofSecondOfDay((start + 1 + random.nextInt(60)) * 60L),
+              priorities[random.nextInt(priorities.length)]));
+    }
+    file = Files.createTempFile("schedule-archive", ".sched");
+    MappedSchedule.write(file, tasks);
+  }
+
+  @TearDown(Level.Trial)
+  public void deleteArchive() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public List<Task> openAndQueryWindow() throws IOException {
+    return MappedSchedule.open(file).getTasksOverlapping(QUERY_START, QUERY_END);
+  }
+
+  @Benchmark
+  public int openAndMaterializeAll() throws IOException {
+    int descriptionLength = 0;
+    for (Task task : MappedSchedule.open(file).getAllTasks()) {
+      descriptionLength += task.getDescription().length();
+    }
+    return descriptionLength;
+  }
+}
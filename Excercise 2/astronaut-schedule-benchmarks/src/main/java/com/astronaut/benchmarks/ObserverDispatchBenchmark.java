@@ -0,0 +1,110 @@
+package com.astronaut.benchmarks;
+
+import com.astronaut.models.Task;
+import com.astronaut.patterns.behavioral.observer.ObserverDispatchConfig;
+import com.astronaut.patterns.behavioral.observer.TaskObserver;
+import com.astronaut.patterns.behavioral.observer.TaskSubject;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Time the publishing thread spends on a burst of notifications when one observer is slow, as a
+// console-printing observer is. In ASYNC mode the burst fits in the observer's queue and is
+// delivered after the measurement, when each iteration is drained. In COALESCED mode the burst is
+// one change set, which the observer handles in one go, as ConflictNotifier does with batches.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ObserverDispatchBenchmark {
+  public enum Dispatch {
+    SYNC,
+    ASYNC,
+    COALESCED
+  }
+
+  private static final int BURST = 500;
+  private static final long SLOW_OBSERVER_TOKENS = 2_000;
+
+  @Param({"SYNC", "ASYNC", "COALESCED"})
+  private Dispatch dispatch;
+
+  private TaskSubject subject;
+  private Task[] tasks;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    subject = new TaskSubject();
+    subject.addObserver(new SlowObserver());
+    tasks = new ScheduleDataGenerator(BenchmarkSupport.SEED, 1000).gapTasks(BURST);
+  }
+
+  @Setup(Level.Iteration)
+  public void startDispatch() {
+    if (dispatch == Dispatch.ASYNC) {
+      subject.enableAsync(ObserverDispatchConfig.defaults());
+    }
+  }
+
+  @TearDown(Level.Iteration)
+  public void drain() {
+    subject.disableAsync();
+  }
+
+  @Benchmark
+  public TaskSubject publishBurst() {
+    boolean coalesced = dispatch == Dispatch.COALESCED;
+    if (coalesced) {
+      subject.beginChangeSet();
+    }
+    for (int i = 0; i < tasks.length; i++) {
+      subject.notifyTaskAdded(tasks[i], i + 1);
+    }
+    if (coalesced) {
+      subject.endChangeSet();
+    }
+    return subject;
+  }
+
+  private static final class SlowObserver implements TaskObserver {
+    @Override
+    public void onTaskConflict(Task newTask, Task conflictingTask) {
+      Blackhole.consumeCPU(SLOW_OBSERVER_TOKENS);
+    }
+
+    @Override
+    public void onTaskAdded(Task task) {
+      Blackhole.consumeCPU(SLOW_OBSERVER_TOKENS);
+    }
+
+    @Override
+    public void onTasksAdded(List<Task> batch) {
+      Blackhole.consumeCPU(SLOW_OBSERVER_TOKENS);
+    }
+
+    @Override
+    public void onTaskRemoved(Task task) {
+      Blackhole.consumeCPU(SLOW_OBSERVER_TOKENS);
+    }
+
+    @Override
+    public void onTaskUpdated(Task task) {
+      Blackhole.consumeCPU(SLOW_OBSERVER_TOKENS);
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package com.astronaut.benchmarks;
+
+import com.astronaut.exceptions.TaskConflictException;
+import com.astronaut.models.Priority;
+import com.astronaut.models.Task;
+import com.astronaut.partition.PartitionConfig;
+import com.astronaut.partition.PartitionedScheduleStore;
+import com.astronaut.partition.ScheduleKey;
+import com.astronaut.persistence.FsyncPolicy;
+import com.astronaut.persistence.PersistenceConfig;
+import com.astronaut.utils.LogLevel;
+import com.astronaut.utils.Logger;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// A crew sharing one day. Run with "-t 4" or more: with SAME_PARTITION every writer goes
+// through one crew member's schedule lock, as with the single ScheduleManager, while with
+// OWN_PARTITION each thread edits its own crew member's schedule. fanOutQuery collects the
+// day's CRITICAL tasks for the whole crew on the store's query threads.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PartitionedStoreBenchmark {
+  private static final int CREW_SIZE = 16;
+  private static final int SCHEDULE_SIZE = 200;
+  private static final LocalDate DAY = LocalDate.of(2026, 1, 1);
+
+  public enum Layout {
+    SAME_PARTITION,
+    OWN_PARTITION
+  }
+
+  @State(Scope.Benchmark)
+  public static class Crew {
+    @Param({"SAME_PARTITION", "OWN_PARTITION"})
+    private Layout layout;
+
+    private Path root;
+    private PartitionedScheduleStore store;
+    private Task[] gapTasks;
+    private final AtomicInteger nextWriter = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, TaskConflictException {
+      Logger.getInstance().setLevel(LogLevel.WARN);
+      root = Files.createTempDirectory("partitioned-store-benchmark");
+      // Snapshots off and no fsync, so the journal's disk writes do not dominate.
+      PersistenceConfig persistence = new PersistenceConfig(FsyncPolicy.NEVER, 1000, 0, 10_000);
+      store = new PartitionedScheduleStore(root, new PartitionConfig(CREW_SIZE * 2, 0, 4, persistence));
+      ScheduleDataGenerator generator = new ScheduleDataGenerator(BenchmarkSupport.SEED, SCHEDULE_SIZE);
+      for (int member = 0; member < CREW_SIZE; member++) {
+        List<Task> tasks = generator.scheduledTasks();
+        store.edit(
+            new ScheduleKey("crew" + member, DAY),
+            schedule -> {
+              for (Task task : tasks) {
+                schedule.addTask(
+                    new Task(task.getDescription(), task.getStartTime(), task.getEndTime(), task.getPriority()));
+              }
+            });
+      }
+      gapTasks = generator.gapTasks(SCHEDULE_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+      store.close();
+      try (Stream<Path> files = Files.walk(root)) {
+        files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Writer {
+    private ScheduleKey key;
+    private Task[] ownTasks;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp(Crew crew) {
+      int writer = crew.nextWriter.getAndIncrement();
+      key = new ScheduleKey("crew" + (crew.layout == Layout.SAME_PARTITION ? 0 : writer % CREW_SIZE), DAY);
+      // Copies of one gap task per writer. The edit holds the partition's write lock, so checking
+      // the slot first keeps writers that drew the same gap from conflicting.
+      Task gap = crew.gapTasks[writer % crew.gapTasks.length];
+      ownTasks = new Task[16];
+      for (int i = 0; i < ownTasks.length; i++) {
+        ownTasks[i] = new Task(gap.getDescription(), gap.getStartTime(), gap.getEndTime(), gap.getPriority());
+      }
+    }
+  }
+
+  @Benchmark
+  public void addAndRemove(Crew crew, Writer writer) throws Exception {
+    Task task = writer.ownTasks[writer.cursor++ & 15];
+    crew.store.edit(
+        writer.key,
+        schedule -> {
+          if (schedule.isSlotFree(task.getStartTime(), task.getEndTime())) {
+            schedule.addTask(task);
+            schedule.removeTaskById(task.getId());
+          }
+        });
+  }
+
+  @Benchmark
+  public Map<String, List<Task>> fanOutQuery(Crew crew) {
+    return crew.store.getTasksByPriority(DAY, Priority.CRITICAL);
+  }
+}
@@ -0,0 +1,81 @@
+package com.astronaut.benchmarks;
+
+import com.astronaut.exceptions.TaskConflictException;
+import com.astronaut.models.PreemptionResult;
+import com.astronaut.models.Priority;
+import com.astronaut.models.Task;
+import com.astronaut.patterns.creational.singleton.ScheduleManager;
+import com.astronaut.persistence.ScheduleJournal;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// A CRITICAL insert into a dense day: 720 one-minute LOW tasks on the even minutes, so the
+// insert displaces about span / 2 tasks and each one moves to a nearby odd minute. The schedule
+// is reloaded before every call, outside the measurement.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PreemptionBenchmark {
+  private static final int CANDIDATES = 1024;
+
+  @Param({"1", "10", "60"})
+  private int spanMinutes;
+
+  private ScheduleManager manager;
+  private List<Task> schedule;
+  private Task[] candidates;
+  private int cursor;
+
+  @Setup(Level.Trial)
+  public void setUp() throws TaskConflictException {
+    schedule = new ArrayList<>();
+    for (int minute = 0; minute + 1 < 24 * 60; minute += 2) {
+      schedule.add(
+          new Task(
+              "Task " + minute,
+              LocalTime.ofSecondOfDay(minute * 60L),
+              LocalTime.ofSecondOfDay((minute + 1) * 60L),
+              Priority.LOW));
+    }
+    manager = BenchmarkSupport.loadSchedule(List.of());
+    Random random = new Random(BenchmarkSupport.SEED);
+    candidates = new Task[CANDIDATES];
+    for (int i = 0; i < CANDIDATES; i++) {
+      int start = random.nextInt(24 * 60 - 1 - spanMinutes);
+      candidates[i] =
+          new Task(
+              "Critical " + i,
+              LocalTime.ofSecondOfDay(start * 60L),
+              LocalTime.ofSecondOfDay((start + spanMinutes) * 60L),
+              Priority.CRITICAL);
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void reload() {
+    manager.restore(schedule, ScheduleJournal.NONE);
+  }
+
+  @Benchmark
+  public PreemptionResult addWithPreemption() throws TaskConflictException {
+    return manager.addTaskWithPreemption(candidates[cursor++ & (CANDIDATES - 1)]);
+  }
+}
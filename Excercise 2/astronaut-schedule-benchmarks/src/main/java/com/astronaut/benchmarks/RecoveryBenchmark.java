@@ -0,0 +1,107 @@
+package com.astronaut.benchmarks;
+
+import com.astronaut.exceptions.TaskConflictException;
+import com.astronaut.models.Priority;
+import com.astronaut.models.Task;
+import com.astronaut.patterns.creational.singleton.ScheduleManager;
+import com.astronaut.persistence.FsyncPolicy;
+import com.astronaut.persistence.PersistenceConfig;
+import com.astronaut.persistence.RecoveryResult;
+import com.astronaut.persistence.SchedulePersistence;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Startup time: rebuilding the schedule and its indexes from disk, either from a snapshot or by
+// replaying one journal record per task. The schedule is larger than ScheduleDataGenerator
+// supports, so tasks are sub-second slots spread over the day.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class RecoveryBenchmark {
+  public enum Layout {
+    SNAPSHOT,
+    JOURNAL
+  }
+
+  private static final PersistenceConfig CONFIG =
+      new PersistenceConfig(FsyncPolicy.NEVER, 1000, 0, 1000);
+
+  @Param({"100000"})
+  private int size;
+
+  @Param({"SNAPSHOT", "JOURNAL"})
+  private Layout layout;
+
+  private Path dataDir;
+  private ScheduleManager manager;
+
+  @Setup(Level.Trial)
+  public void writeData() throws IOException, TaskConflictException {
+    dataDir = Files.createTempDirectory("schedule-recovery");
+    manager = BenchmarkSupport.loadSchedule(List.of());
+    try (SchedulePersistence persistence = SchedulePersistence.open(dataDir, CONFIG, manager)) {
+      for (Task task : tasks(size)) {
+        manager.addTask(task);
+      }
+      if (layout == Layout.SNAPSHOT) {
+        persistence.snapshot();
+      }
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void deleteData() throws IOException {
+    try (Stream<Path> files = Files.walk(dataDir)) {
+      for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  @Benchmark
+  public RecoveryResult recover() throws IOException {
+    try (SchedulePersistence persistence = SchedulePersistence.open(dataDir, CONFIG, manager)) {
+      return persistence.getRecoveryResult();
+    }
+  }
+
+  private static Task[] tasks(int count) {
+    Random random = new Random(BenchmarkSupport.SEED);
+    Priority[] priorities = Priority.values();
+    long slotNanos = LocalTime.MAX.toNanoOfDay() / (2L * count);
+    Task[] tasks = new Task[count];
+    for (int i = 0; i < count; i++) {
+      long start = 2L * i * slotNanos;
+      tasks[i] =
+          new Task(
+              "Task " + i,
+              LocalTime.ofNanoOfDay(start),
+              LocalTime.ofNanoOfDay(start + slotNanos),
+              priorities[random.nextInt(priorities.length)]);
+    }
+    return tasks;
+  }
+}
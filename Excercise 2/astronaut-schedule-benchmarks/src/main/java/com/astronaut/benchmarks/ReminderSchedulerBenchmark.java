@@ -0,0 +1,101 @@
+package com.astronaut.benchmarks;
+
+import com.astronaut.models.Task;
+import com.astronaut.patterns.creational.singleton.ScheduleManager;
+import com.astronaut.reminders.ReminderScheduler;
+import com.astronaut.utils.LogLevel;
+import com.astronaut.utils.Logger;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Cost of setting and then cancelling a day's worth of reminders, as edits to a busy schedule
+// do, in the timing wheel and in a ScheduledThreadPoolExecutor (a delay-ordered heap). The
+// reminder clock is fixed at midnight, so nothing fires during the measurement.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReminderSchedulerBenchmark {
+  public enum Engine {
+    TIMING_WHEEL,
+    SCHEDULED_EXECUTOR
+  }
+
+  private static final Runnable NO_OP = () -> {};
+
+  @Param({"TIMING_WHEEL", "SCHEDULED_EXECUTOR"})
+  private Engine engine;
+
+  @Param({"1000", "10000"})
+  private int reminders;
+
+  private Task[] tasks;
+  private long[] delayMillis;
+  private ScheduledFuture<?>[] futures;
+  private ReminderScheduler scheduler;
+  private ScheduledThreadPoolExecutor executor;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Logger.getInstance().setLevel(LogLevel.WARN);
+    List<Task> generated = new ScheduleDataGenerator(BenchmarkSupport.SEED, reminders).scheduledTasks();
+    tasks = generated.toArray(new Task[0]);
+    delayMillis = new long[reminders];
+    for (int i = 0; i < reminders; i++) {
+      delayMillis[i] = Duration.ofNanos(tasks[i].getStartTime().toNanoOfDay()).toMillis();
+    }
+    futures = new ScheduledFuture<?>[reminders];
+    ZoneId zone = ZoneId.systemDefault();
+    Clock midnight = Clock.fixed(LocalDate.of(2024, 6, 1).atStartOfDay(zone).toInstant(), zone);
+    scheduler = new ReminderScheduler(ScheduleManager.getInstance(), midnight, 10);
+    executor = new ScheduledThreadPoolExecutor(1);
+    executor.setRemoveOnCancelPolicy(true);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    scheduler.close();
+    executor.shutdownNow();
+  }
+
+  @Benchmark
+  public int scheduleThenCancel() {
+    if (engine == Engine.TIMING_WHEEL) {
+      for (Task task : tasks) {
+        scheduler.schedule(task, 0);
+      }
+      for (Task task : tasks) {
+        scheduler.cancel(task.getId());
+      }
+      return scheduler.getPendingCount();
+    }
+    for (int i = 0; i < reminders; i++) {
+      futures[i] = executor.schedule(NO_OP, delayMillis[i], TimeUnit.MILLISECONDS);
+    }
+    for (ScheduledFuture<?> future : futures) {
+      future.cancel(false);
+    }
+    return executor.getQueue().size();
+  }
+}
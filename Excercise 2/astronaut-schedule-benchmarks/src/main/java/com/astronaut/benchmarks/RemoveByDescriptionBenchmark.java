@@ -0,0 +1,59 @@
+package com.astronaut.benchmarks;
+
+import com.astronaut.exceptions.TaskConflictException;
+import com.astronaut.exceptions.TaskNotFoundException;
+import com.astronaut.models.Task;
+import com.astronaut.patterns.creational.singleton.ScheduleManager;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Operator-style removes by (differently cased) description, re-adding the task afterwards so
+// the schedule size stays fixed.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RemoveByDescriptionBenchmark {
+  @Param({"100", "1000", "10000"})
+  private int scheduleSize;
+
+  private ScheduleManager manager;
+  private String[] descriptions;
+  private Map<String, Task> tasksByDescription;
+  private int cursor;
+
+  @Setup(Level.Trial)
+  public void setUp() throws TaskConflictException {
+    ScheduleDataGenerator generator = new ScheduleDataGenerator(BenchmarkSupport.SEED, scheduleSize);
+    List<Task> tasks = generator.scheduledTasks();
+    manager = BenchmarkSupport.loadSchedule(tasks);
+    descriptions = generator.descriptions(1024);
+    tasksByDescription = new HashMap<>();
+    for (Task task : tasks) {
+      tasksByDescription.put(task.getDescription().toLowerCase(), task);
+    }
+  }
+
+  @Benchmark
+  public void removeAndReAdd() throws TaskNotFoundException, TaskConflictException {
+    String description = descriptions[cursor++ & 1023];
+    manager.removeTask(description);
+    manager.addTask(tasksByDescription.get(description));
+  }
+}
@@ -0,0 +1,97 @@
+package com.astronaut.benchmarks;
+
+import com.astronaut.models.Priority;
+import com.astronaut.models.Task;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+// Deterministic schedules for benchmarks. The day is cut into 2 * size equal slots: scheduled
+// tasks take the even slots, so every odd slot is a guaranteed conflict-free insert and a task
+// shifted by half a slot is a guaranteed conflict. Slots are whole minutes whenever the schedule
+// fits in 1440 minutes and fall back to seconds for larger schedules. When the slots fill the
+// day exactly, the last gap ends at LocalTime.MAX instead of the following midnight.
+public class ScheduleDataGenerator {
+  private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+  private static final Priority[] PRIORITIES = Priority.values();
+
+  private final Random random;
+  private final int size;
+  private final int slotSeconds;
+
+  public ScheduleDataGenerator(long seed, int size) {
+    if (size <= 0 || size > SECONDS_PER_DAY / 4) {
+      throw new IllegalArgumentException("Schedule size must be between 1 and " + SECONDS_PER_DAY / 4);
+    }
+    this.random = new Random(seed);
+    this.size = size;
+    int seconds = SECONDS_PER_DAY / (2 * size);
+    this.slotSeconds = seconds >= 60 ? seconds - seconds % 60 : seconds;
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  // The schedule itself, in shuffled insertion order.
+  public List<Task> scheduledTasks() {
+    List<Task> tasks = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      tasks.add(task("Task " + i, 2 * i * slotSeconds, (2 * i + 1) * slotSeconds));
+    }
+    Collections.shuffle(tasks, random);
+    return tasks;
+  }
+
+  public Task[] gapTasks(int count) {
+    Task[] tasks = new Task[count];
+    for (int i = 0; i < count; i++) {
+      int slot = 2 * random.nextInt(size) + 1;
+      tasks[i] = task("Gap " + i, slot * slotSeconds, (slot + 1) * slotSeconds);
+    }
+    return tasks;
+  }
+
+  public Task[] conflictingTasks(int count) {
+    Task[] tasks = new Task[count];
+    for (int i = 0; i < count; i++) {
+      int start = 2 * random.nextInt(size) * slotSeconds + slotSeconds / 2;
+      tasks[i] = task("Conflict " + i, start, start + slotSeconds);
+    }
+    return tasks;
+  }
+
+  public String[] descriptions(int count) {
+    String[] descriptions = new String[count];
+    for (int i = 0; i < count; i++) {
+      descriptions[i] = "task " + random.nextInt(size);
+    }
+    return descriptions;
+  }
+
+  // Raw operator input (description, start, end, priority) in the HH:mm format TaskFactory parses.
+  public String[][] rawInputs(int count) {
+    String[][] inputs = new String[count][];
+    for (int i = 0; i < count; i++) {
+      int start = random.nextInt(24 * 60 - 1);
+      int end = start + 1 + random.nextInt(Math.min(120, 24 * 60 - 1 - start));
+      inputs[i] =
+          new String[] {"Raw task " + i, hhmm(start), hhmm(end), PRIORITIES[random.nextInt(PRIORITIES.length)].name()};
+    }
+    return inputs;
+  }
+
+  private Task task(String description, int startSecond, int endSecond) {
+    return new Task(
+        description,
+        LocalTime.ofSecondOfDay(startSecond),
+        endSecond >= SECONDS_PER_DAY ? LocalTime.MAX : LocalTime.ofSecondOfDay(endSecond),
+        PRIORITIES[random.nextInt(PRIORITIES.length)]);
+  }
+
+  private static String hhmm(int minuteOfDay) {
+    return String.format("%02d:%02d", minuteOfDay / 60, minuteOfDay % 60);
+  }
+}
@@ -0,0 +1,88 @@
+package com.astronaut.benchmarks;
+
+import com.astronaut.exceptions.InvalidTimeException;
+import com.astronaut.exceptions.TaskConflictException;
+import com.astronaut.io.ScheduleFileFormat;
+import com.astronaut.io.TaskRecordWriter;
+import com.astronaut.models.BatchMode;
+import com.astronaut.models.ExportResult;
+import com.astronaut.models.ImportResult;
+import com.astronaut.patterns.creational.factory.TaskFactory;
+import com.astronaut.patterns.creational.singleton.ScheduleManager;
+import com.astronaut.services.ScheduleFileService;
+import com.astronaut.services.TaskService;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Streaming a file of raw operator rows through the batch import, and exporting the schedule.
+// The rows are random, so most of a large file conflicts and exercises the failure report too.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ScheduleFileBenchmark {
+  @Param({"1000", "100000"})
+  private int rows;
+
+  @Param({"CSV", "JSON_LINES"})
+  private ScheduleFileFormat format;
+
+  private Path importFile;
+  private Path exportFile;
+  private ScheduleManager manager;
+  private ScheduleFileService fileService;
+
+  @Setup(Level.Trial)
+  public void writeFile() throws IOException, InvalidTimeException, TaskConflictException {
+    manager = BenchmarkSupport.loadSchedule(List.of());
+    fileService = new ScheduleFileService(new TaskService());
+    importFile = Files.createTempFile("schedule-import", format.getExtension());
+    exportFile = Files.createTempFile("schedule-export", format.getExtension());
+    TaskFactory factory = new TaskFactory();
+    try (TaskRecordWriter writer = format.openWriter(importFile)) {
+      for (String[] input : new ScheduleDataGenerator(BenchmarkSupport.SEED, 1000).rawInputs(rows)) {
+        writer.write(factory.createTask(input[0], input[1], input[2], input[3]), null, null);
+      }
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void reset() {
+    manager.clear();
+  }
+
+  @TearDown(Level.Trial)
+  public void deleteFiles() throws IOException {
+    Files.deleteIfExists(importFile);
+    Files.deleteIfExists(exportFile);
+  }
+
+  @Benchmark
+  public ImportResult importFile() throws IOException {
+    return fileService.importTasks(importFile, format, BatchMode.BEST_EFFORT);
+  }
+
+  @Benchmark
+  public ExportResult importThenExport() throws IOException {
+    fileService.importTasks(importFile, format, BatchMode.BEST_EFFORT);
+    return fileService.exportTasks(exportFile, format);
+  }
+}
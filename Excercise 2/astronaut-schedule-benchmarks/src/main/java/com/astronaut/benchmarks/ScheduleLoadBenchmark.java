@@ -0,0 +1,65 @@
+package com.astronaut.benchmarks;
+
+import com.astronaut.exceptions.TaskConflictException;
+import com.astronaut.index.ConflictDetectionMode;
+import com.astronaut.models.BatchMode;
+import com.astronaut.models.Task;
+import com.astronaut.patterns.creational.singleton.ScheduleManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Loading a whole timeline one addTask at a time (the O(n^2) import path with a linear scan)
+// versus handing it to addTasks as one batch.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ScheduleLoadBenchmark {
+  @Param({"1000", "10000"})
+  private int scheduleSize;
+
+  @Param({"OCCUPANCY_BITMAP", "INTERVAL_INDEX", "LINEAR_SCAN"})
+  private ConflictDetectionMode mode;
+
+  private List<Task> tasks;
+  private ScheduleManager manager;
+
+  @Setup(Level.Trial)
+  public void generate() throws TaskConflictException {
+    tasks = new ScheduleDataGenerator(BenchmarkSupport.SEED, scheduleSize).scheduledTasks();
+    manager = BenchmarkSupport.loadSchedule(List.of());
+    manager.setConflictDetectionMode(mode);
+  }
+
+  @Setup(Level.Iteration)
+  public void reset() {
+    manager.clear();
+  }
+
+  @Benchmark
+  public int loadSchedule() throws TaskConflictException {
+    for (Task task : tasks) {
+      manager.addTask(task);
+    }
+    return manager.getTaskCount();
+  }
+
+  @Benchmark
+  public int loadScheduleBatch() {
+    return manager.addTasks(tasks, BatchMode.BEST_EFFORT).getAddedCount();
+  }
+}
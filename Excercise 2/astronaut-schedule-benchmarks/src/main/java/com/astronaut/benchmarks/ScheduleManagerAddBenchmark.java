@@ -0,0 +1,69 @@
+package com.astronaut.benchmarks;
+
+import com.astronaut.exceptions.TaskConflictException;
+import com.astronaut.exceptions.TaskNotFoundException;
+import com.astronaut.index.ConflictDetectionMode;
+import com.astronaut.models.Task;
+import com.astronaut.patterns.creational.singleton.ScheduleManager;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// addTask against a schedule of scheduleSize tasks. The conflict-free case removes the task it
+// just added so the schedule size stays fixed for the whole measurement.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScheduleManagerAddBenchmark {
+  private static final int CANDIDATES = 1024;
+
+  @Param({"100", "1000", "10000"})
+  private int scheduleSize;
+
+  @Param({"OCCUPANCY_BITMAP", "INTERVAL_INDEX", "LINEAR_SCAN"})
+  private ConflictDetectionMode mode;
+
+  private ScheduleManager manager;
+  private Task[] gapTasks;
+  private Task[] conflictingTasks;
+  private int cursor;
+
+  @Setup(Level.Trial)
+  public void setUp() throws TaskConflictException {
+    ScheduleDataGenerator generator = new ScheduleDataGenerator(BenchmarkSupport.SEED, scheduleSize);
+    manager = BenchmarkSupport.loadSchedule(generator.scheduledTasks());
+    manager.setConflictDetectionMode(mode);
+    gapTasks = generator.gapTasks(CANDIDATES);
+    conflictingTasks = generator.conflictingTasks(CANDIDATES);
+  }
+
+  @Benchmark
+  public void addConflictFree() throws TaskConflictException, TaskNotFoundException {
+    Task task = gapTasks[cursor++ & (CANDIDATES - 1)];
+    manager.addTask(task);
+    manager.removeTaskById(task.getId());
+  }
+
+  @Benchmark
+  public boolean addConflicting() {
+    try {
+      manager.addTask(conflictingTasks[cursor++ & (CANDIDATES - 1)]);
+      return true;
+    } catch (TaskConflictException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.astronaut.benchmarks;
+
+import com.astronaut.exceptions.InvalidTimeException;
+import com.astronaut.models.Task;
+import com.astronaut.patterns.creational.factory.TaskFactory;
+import com.astronaut.utils.LogLevel;
+import com.astronaut.utils.Logger;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Validating and parsing raw operator input into a Task.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskFactoryBenchmark {
+  private TaskFactory factory;
+  private String[][] inputs;
+  private int cursor;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Logger.getInstance().setLevel(LogLevel.WARN);
+    factory = new TaskFactory();
+    inputs = new ScheduleDataGenerator(BenchmarkSupport.SEED, 1000).rawInputs(1024);
+  }
+
+  @Benchmark
+  public Task createTask() throws InvalidTimeException {
+    String[] input = inputs[cursor++ & 1023];
+    return factory.createTask(input[0], input[1], input[2], input[3]);
+  }
+}
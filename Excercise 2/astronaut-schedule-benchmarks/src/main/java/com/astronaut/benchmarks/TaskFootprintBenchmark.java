@@ -0,0 +1,114 @@
+package com.astronaut.benchmarks;
+
+import com.astronaut.models.Priority;
+import com.astronaut.models.Task;
+import com.astronaut.models.TaskStatus;
+import com.astronaut.store.ColumnarSchedule;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Heap retained per task by an ArrayList<Task> and by a ColumnarSchedule holding the same
+// history: 30-minute activities with recurring names, built as an import would build them, so
+// every task gets its own strings and LocalTimes. The result to read is the bytesPerTask
+// counter; the time score is just the cost of building the structure. G1 and a fixed heap are
+// pinned because heap usage after System.gc() is reported most reliably under G1.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-XX:+UseG1GC", "-Xms2g", "-Xmx2g"})
+public class TaskFootprintBenchmark {
+  public enum Layout {
+    TASK_LIST,
+    COLUMNAR
+  }
+
+  public enum IdKind {
+    UUID,
+    DECIMAL
+  }
+
+  private static final int DISTINCT_ACTIVITIES = 50;
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Footprint {
+    public long bytesPerTask;
+  }
+
+  @Param({"1000000"})
+  private int size;
+
+  @Param({"TASK_LIST", "COLUMNAR"})
+  private Layout layout;
+
+  @Param({"UUID", "DECIMAL"})
+  private IdKind ids;
+
+  // Kept in a field so the previous iteration's structure can be released before measuring.
+  private Object retained;
+
+  @Benchmark
+  public int retain(Footprint footprint) {
+    retained = null;
+    long before = usedHeapAfterGc();
+    if (layout == Layout.TASK_LIST) {
+      List<Task> tasks = new ArrayList<>();
+      generate(tasks::add);
+      retained = tasks;
+    } else {
+      ColumnarSchedule schedule = new ColumnarSchedule();
+      generate(schedule::add);
+      retained = schedule;
+    }
+    footprint.bytesPerTask = (usedHeapAfterGc() - before) / size;
+    return System.identityHashCode(retained);
+  }
+
+  private interface TaskSink {
+    void accept(Task task);
+  }
+
+  private void generate(TaskSink sink) {
+    Random random = new Random(BenchmarkSupport.SEED);
+    Priority[] priorities = Priority.values();
+    for (int i = 0; i < size; i++) {
+      int start = random.nextInt(24 * 60 - 30);
+      String id = ids == IdKind.UUID ? new UUID(random.nextLong(), random.nextLong()).toString() : Long.toString(i);
+      sink.accept(
+          new Task(
+              id,
+              "Activity " + random.nextInt(DISTINCT_ACTIVITIES),
+              LocalTime.ofSecondOfDay(start * 60L),
+              LocalTime.ofSecondOfDay((start + 30) * 60L),
+              priorities[random.nextInt(priorities.length)],
+              TaskStatus.PENDING));
+    }
+  }
+
+  private static long usedHeapAfterGc() {
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return memory.getHeapMemoryUsage().getUsed();
+  }
+}
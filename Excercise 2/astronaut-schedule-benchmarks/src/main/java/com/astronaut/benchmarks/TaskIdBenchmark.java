@@ -0,0 +1,42 @@
+package com.astronaut.benchmarks;
+
+import com.astronaut.utils.TaskIdGenerator;
+import com.astronaut.utils.TaskIdStrategy;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Cost of one task id. One generator is shared by all threads, as TaskIds shares it, so run
+// with -t to see contention.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskIdBenchmark {
+  @Param({"MONOTONIC", "UUID"})
+  private TaskIdStrategy strategy;
+
+  private TaskIdGenerator generator;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    generator = strategy.createGenerator();
+  }
+
+  @Benchmark
+  public String nextId() {
+    return generator.nextId();
+  }
+}
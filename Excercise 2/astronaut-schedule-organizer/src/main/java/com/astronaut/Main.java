@@ -2,11 +2,16 @@ package com.astronaut;
 
 import com.astronaut.patterns.behavioral.observer.ConflictNotifier;
 import com.astronaut.patterns.creational.singleton.ScheduleManager;
+import com.astronaut.persistence.PersistenceConfig;
+import com.astronaut.persistence.SchedulePersistence;
 import com.astronaut.ui.ConsoleUI;
 import com.astronaut.ui.MenuHandler;
 import com.astronaut.utils.Logger;
+import java.nio.file.Paths;
 
 public class Main {
+  private static final String DATA_DIR_PROPERTY = "astronaut.data.dir";
+
   public static void main(String[] args) {
     try {
       Logger logger = Logger.getInstance();
@@ -18,10 +23,19 @@ public class Main {
       ConsoleUI.displaySystemInfo();
 
       ScheduleManager scheduleManager = ScheduleManager.getInstance();
-      scheduleManager.addObserver(new ConflictNotifier());
+      // Restore the saved schedule before observers are attached, so reloading is not reported
+      // as new tasks.
+      try (SchedulePersistence persistence =
+          SchedulePersistence.open(
+              Paths.get(System.getProperty(DATA_DIR_PROPERTY, "data")),
+              PersistenceConfig.fromSystemProperties(),
+              scheduleManager)) {
+        ConsoleUI.displayRecoveryInfo(persistence.getRecoveryResult());
+        scheduleManager.addObserver(new ConflictNotifier());
 
-      MenuHandler menuHandler = new MenuHandler();
-      menuHandler.start();
+        MenuHandler menuHandler = new MenuHandler();
+        menuHandler.start();
+      }
     } catch (Exception e) {
       System.err.println("Fatal error: " + e.getMessage());
       e.printStackTrace();
@@ -0,0 +1,7 @@
+package com.astronaut.exceptions;
+
+public class InvalidRecordException extends Exception {
+  public InvalidRecordException(String message) {
+    super(message);
+  }
+}
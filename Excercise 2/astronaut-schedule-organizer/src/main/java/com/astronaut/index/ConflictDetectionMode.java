@@ -0,0 +1,22 @@
+package com.astronaut.index;
+
+public enum ConflictDetectionMode {
+  LINEAR_SCAN("Linear Scan"),
+  INTERVAL_INDEX("Interval Index"),
+  OCCUPANCY_BITMAP("Occupancy Bitmap");
+
+  private final String displayName;
+
+  ConflictDetectionMode(String displayName) {
+    this.displayName = displayName;
+  }
+
+  public String getDisplayName() {
+    return displayName;
+  }
+
+  @Override
+  public String toString() {
+    return displayName;
+  }
+}
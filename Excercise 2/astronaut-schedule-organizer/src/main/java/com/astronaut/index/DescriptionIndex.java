@@ -0,0 +1,90 @@
+package com.astronaut.index;
+
+import com.astronaut.models.Task;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Case-folded description -> tasks, in insertion order so lookups return the same task the
+// original first-match scan did. The description is captured on insert, so a changed task is
+// swapped in with replace rather than mutated in place.
+public class DescriptionIndex {
+  private final Map<String, List<Task>> tasksByKey;
+  private final Map<Task, String> keysByTask;
+
+  public DescriptionIndex() {
+    this.tasksByKey = new HashMap<>();
+    this.keysByTask = new HashMap<>();
+  }
+
+  // Folds each char the way String.equalsIgnoreCase compares them, so equal keys means
+  // equalsIgnoreCase would have matched.
+  public static String fold(String description) {
+    int length = description.length();
+    int index = 0;
+    while (index < length) {
+      char c = description.charAt(index);
+      if (Character.toLowerCase(Character.toUpperCase(c)) != c) {
+        break;
+      }
+      index++;
+    }
+    if (index == length) {
+      return description;
+    }
+    char[] folded = description.toCharArray();
+    for (; index < length; index++) {
+      folded[index] = Character.toLowerCase(Character.toUpperCase(folded[index]));
+    }
+    return new String(folded);
+  }
+
+  public void insert(Task task) {
+    if (keysByTask.containsKey(task)) {
+      return;
+    }
+    String key = fold(task.getDescription());
+    keysByTask.put(task, key);
+    tasksByKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(task);
+  }
+
+  public boolean remove(Task task) {
+    String key = keysByTask.remove(task);
+    if (key == null) {
+      return false;
+    }
+    List<Task> matches = tasksByKey.get(key);
+    matches.remove(task);
+    if (matches.isEmpty()) {
+      tasksByKey.remove(key);
+    }
+    return true;
+  }
+
+  // Keeps the original's position among equal descriptions when the folded key is unchanged.
+  public void replace(Task original, Task replacement) {
+    String key = keysByTask.get(original);
+    String replacementKey = fold(replacement.getDescription());
+    if (key == null || !key.equals(replacementKey)) {
+      remove(original);
+      insert(replacement);
+      return;
+    }
+    keysByTask.remove(original);
+    keysByTask.put(replacement, key);
+    List<Task> matches = tasksByKey.get(key);
+    matches.set(matches.indexOf(original), replacement);
+  }
+
+  public Optional<Task> findFirst(String description) {
+    List<Task> matches = tasksByKey.get(fold(description));
+    return matches == null ? Optional.empty() : Optional.of(matches.get(0));
+  }
+
+  public void clear() {
+    tasksByKey.clear();
+    keysByTask.clear();
+  }
+}
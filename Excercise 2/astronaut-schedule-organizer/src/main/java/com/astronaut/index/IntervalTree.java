@@ -0,0 +1,229 @@
+package com.astronaut.index;
+
+import com.astronaut.models.Task;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+// AVL tree ordered by start time and augmented with the maximum end time of each subtree, so an
+// overlap query only descends into subtrees that can still contain a match: O(log n + k).
+// Start/end are captured when a task is inserted; callers must remove and re-insert a task
+// around any change to its times.
+public class IntervalTree {
+  private static final class Node {
+    private final Task task;
+    private final long start;
+    private final long end;
+    private final long sequence;
+    private long maxEnd;
+    private int height;
+    private Node left;
+    private Node right;
+
+    private Node(Task task, long start, long end, long sequence) {
+      this.task = task;
+      this.start = start;
+      this.end = end;
+      this.sequence = sequence;
+      this.maxEnd = end;
+      this.height = 1;
+    }
+  }
+
+  private final Map<Task, Node> nodes;
+  private Node root;
+  private long nextSequence;
+
+  public IntervalTree() {
+    this.nodes = new HashMap<>();
+  }
+
+  public void insert(Task task) {
+    if (task == null) {
+      throw new IllegalArgumentException("Task cannot be null");
+    }
+    if (nodes.containsKey(task)) {
+      return;
+    }
+    Node node =
+        new Node(task, toKey(task.getStartTime()), toKey(task.getEndTime()), nextSequence++);
+    nodes.put(task, node);
+    root = insert(root, node);
+  }
+
+  public boolean remove(Task task) {
+    Node node = nodes.remove(task);
+    if (node == null) {
+      return false;
+    }
+    root = remove(root, node);
+    return true;
+  }
+
+  public boolean contains(Task task) {
+    return nodes.containsKey(task);
+  }
+
+  public int size() {
+    return nodes.size();
+  }
+
+  public void clear() {
+    nodes.clear();
+    root = null;
+  }
+
+  public Optional<Task> findFirstOverlap(LocalTime start, LocalTime end, Task excluded) {
+    Task[] found = new Task[1];
+    visitOverlapping(
+        root,
+        toKey(start),
+        toKey(end),
+        task -> {
+          if (task == excluded) {
+            return true;
+          }
+          found[0] = task;
+          return false;
+        });
+    return Optional.ofNullable(found[0]);
+  }
+
+  public List<Task> findOverlapping(LocalTime start, LocalTime end) {
+    List<Task> result = new ArrayList<>();
+    visitOverlapping(root, toKey(start), toKey(end), result::add);
+    return result;
+  }
+
+  // Same predicate as Task.conflictsWith: intervals that only touch at an endpoint do not overlap.
+  private boolean visitOverlapping(Node node, long start, long end, Predicate<Task> visitor) {
+    if (node == null || node.maxEnd <= start) {
+      return true;
+    }
+    if (!visitOverlapping(node.left, start, end, visitor)) {
+      return false;
+    }
+    if (node.start >= end) {
+      return true;
+    }
+    if (node.end > start && !visitor.test(node.task)) {
+      return false;
+    }
+    return visitOverlapping(node.right, start, end, visitor);
+  }
+
+  private static long toKey(LocalTime time) {
+    return time.toNanoOfDay();
+  }
+
+  private static int compare(Node a, Node b) {
+    int result = Long.compare(a.start, b.start);
+    if (result == 0) {
+      result = Long.compare(a.end, b.end);
+    }
+    return result != 0 ? result : Long.compare(a.sequence, b.sequence);
+  }
+
+  private Node insert(Node node, Node inserted) {
+    if (node == null) {
+      return inserted;
+    }
+    if (compare(inserted, node) < 0) {
+      node.left = insert(node.left, inserted);
+    } else {
+      node.right = insert(node.right, inserted);
+    }
+    return rebalance(node);
+  }
+
+  private Node remove(Node node, Node removed) {
+    if (node == null) {
+      return null;
+    }
+    int cmp = compare(removed, node);
+    if (cmp < 0) {
+      node.left = remove(node.left, removed);
+    } else if (cmp > 0) {
+      node.right = remove(node.right, removed);
+    } else {
+      if (node.left == null) {
+        return node.right;
+      }
+      if (node.right == null) {
+        return node.left;
+      }
+      Node successor = node.right;
+      while (successor.left != null) {
+        successor = successor.left;
+      }
+      successor.right = removeMin(node.right);
+      successor.left = node.left;
+      return rebalance(successor);
+    }
+    return rebalance(node);
+  }
+
+  private Node removeMin(Node node) {
+    if (node.left == null) {
+      return node.right;
+    }
+    node.left = removeMin(node.left);
+    return rebalance(node);
+  }
+
+  private Node rebalance(Node node) {
+    update(node);
+    int balance = height(node.left) - height(node.right);
+    if (balance > 1) {
+      if (height(node.left.left) < height(node.left.right)) {
+        node.left = rotateLeft(node.left);
+      }
+      return rotateRight(node);
+    }
+    if (balance < -1) {
+      if (height(node.right.right) < height(node.right.left)) {
+        node.right = rotateRight(node.right);
+      }
+      return rotateLeft(node);
+    }
+    return node;
+  }
+
+  private Node rotateLeft(Node node) {
+    Node pivot = node.right;
+    node.right = pivot.left;
+    pivot.left = node;
+    update(node);
+    update(pivot);
+    return pivot;
+  }
+
+  private Node rotateRight(Node node) {
+    Node pivot = node.left;
+    node.left = pivot.right;
+    pivot.right = node;
+    update(node);
+    update(pivot);
+    return pivot;
+  }
+
+  private static void update(Node node) {
+    node.height = 1 + Math.max(height(node.left), height(node.right));
+    long maxEnd = node.end;
+    if (node.left != null) {
+      maxEnd = Math.max(maxEnd, node.left.maxEnd);
+    }
+    if (node.right != null) {
+      maxEnd = Math.max(maxEnd, node.right.maxEnd);
+    }
+    node.maxEnd = maxEnd;
+  }
+
+  private static int height(Node node) {
+    return node == null ? 0 : node.height;
+  }
+}
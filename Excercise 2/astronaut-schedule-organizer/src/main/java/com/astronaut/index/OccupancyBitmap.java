@@ -0,0 +1,208 @@
+package com.astronaut.index;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+
+// One bit per minute of the day. Minute m is set when some task covers any part of [m, m + 1),
+// so a task ending at 10:00 leaves minute 600 clear and a task starting at 10:00 can take it,
+// matching the touching-endpoints rule in Task.conflictsWith. Tasks that are not minute-aligned
+// mark every minute they touch, which makes a "free" answer exact and a "busy" answer one that
+// callers should confirm against the interval index.
+public class OccupancyBitmap {
+  public static final int MINUTES_PER_DAY = 24 * 60;
+  private static final int WORDS = (MINUTES_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+  private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+
+  private final long[] words;
+
+  public OccupancyBitmap() {
+    this.words = new long[WORDS];
+  }
+
+  public OccupancyBitmap(OccupancyBitmap other) {
+    this.words = other.words.clone();
+  }
+
+  public static int startMinute(LocalTime time) {
+    return (int) (time.toNanoOfDay() / NANOS_PER_MINUTE);
+  }
+
+  public static int endMinute(LocalTime time) {
+    long nanos = time.toNanoOfDay();
+    return (int) ((nanos + NANOS_PER_MINUTE - 1) / NANOS_PER_MINUTE);
+  }
+
+  public static LocalTime toLocalTime(int minute) {
+    return minute >= MINUTES_PER_DAY ? LocalTime.MAX : LocalTime.ofSecondOfDay(minute * 60L);
+  }
+
+  public void occupy(LocalTime start, LocalTime end) {
+    apply(startMinute(start), endMinute(end), true);
+  }
+
+  public void release(LocalTime start, LocalTime end) {
+    apply(startMinute(start), endMinute(end), false);
+  }
+
+  public void occupy(int fromMinute, int toMinute) {
+    apply(fromMinute, toMinute, true);
+  }
+
+  public void release(int fromMinute, int toMinute) {
+    apply(fromMinute, toMinute, false);
+  }
+
+  public boolean isFree(LocalTime start, LocalTime end) {
+    return isFree(startMinute(start), endMinute(end));
+  }
+
+  public boolean isFree(int fromMinute, int toMinute) {
+    return nextSetBit(fromMinute, toMinute) < 0;
+  }
+
+  public void clear() {
+    Arrays.fill(words, 0L);
+  }
+
+  // Earliest minute >= fromMinute that starts a run of durationMinutes clear minutes ending no
+  // later than limitMinute, or -1 when there is none.
+  public int findFreeRun(int fromMinute, int durationMinutes, int limitMinute) {
+    if (durationMinutes <= 0) {
+      throw new IllegalArgumentException("Duration must be positive");
+    }
+    int limit = Math.min(limitMinute, MINUTES_PER_DAY);
+    int position = nextClearBit(Math.max(fromMinute, 0), limit);
+    while (position >= 0 && position + durationMinutes <= limit) {
+      int blocker = nextSetBit(position, position + durationMinutes);
+      if (blocker < 0) {
+        return position;
+      }
+      position = nextClearBit(blocker + 1, limit);
+    }
+    return -1;
+  }
+
+  // Latest minute <= latestStart that starts a run of durationMinutes clear minutes, or -1 when
+  // there is none. The mirror image of findFreeRun, skipping whole busy runs backwards.
+  public int findFreeRunBefore(int latestStart, int durationMinutes) {
+    if (durationMinutes <= 0) {
+      throw new IllegalArgumentException("Duration must be positive");
+    }
+    int position = Math.min(latestStart, MINUTES_PER_DAY - durationMinutes);
+    while (position >= 0) {
+      int blocker = previousSetBit(position, position + durationMinutes);
+      if (blocker < 0) {
+        return position;
+      }
+      int gapEnd = previousClearBit(0, blocker);
+      if (gapEnd < 0) {
+        return -1;
+      }
+      position = gapEnd + 1 - durationMinutes;
+    }
+    return -1;
+  }
+
+  // Start of the run of durationMinutes clear minutes, ending no later than limitMinute, whose
+  // start is closest to targetMinute; on a tie the later run wins. -1 when there is none.
+  public int findNearestFreeRun(int targetMinute, int durationMinutes, int limitMinute) {
+    int limit = Math.min(limitMinute, MINUTES_PER_DAY);
+    int later = findFreeRun(targetMinute, durationMinutes, limit);
+    if (later == targetMinute) {
+      return later;
+    }
+    int earlier = findFreeRunBefore(Math.min(targetMinute, limit - durationMinutes), durationMinutes);
+    if (earlier < 0) {
+      return later;
+    }
+    if (later < 0) {
+      return earlier;
+    }
+    return targetMinute - earlier < later - targetMinute ? earlier : later;
+  }
+
+  // First set minute in [fromMinute, limitMinute), or limitMinute when the range is clear; with
+  // findFreeRun this walks the free gaps one by one.
+  public int nextOccupiedMinute(int fromMinute, int limitMinute) {
+    int minute = nextSetBit(fromMinute, limitMinute);
+    return minute < 0 ? Math.min(limitMinute, MINUTES_PER_DAY) : minute;
+  }
+
+  private void apply(int fromMinute, int toMinute, boolean occupied) {
+    int from = Math.max(fromMinute, 0);
+    int to = Math.min(toMinute, MINUTES_PER_DAY);
+    for (int index = from >>> 6; from < to; index++) {
+      int wordEnd = (index + 1) << 6;
+      long mask = rangeMask(from & 63, Math.min(to, wordEnd) - (index << 6));
+      if (occupied) {
+        words[index] |= mask;
+      } else {
+        words[index] &= ~mask;
+      }
+      from = wordEnd;
+    }
+  }
+
+  private int nextSetBit(int fromMinute, int toMinute) {
+    int from = Math.max(fromMinute, 0);
+    int to = Math.min(toMinute, MINUTES_PER_DAY);
+    for (int index = from >>> 6; from < to; index++) {
+      int wordEnd = (index + 1) << 6;
+      long hits = words[index] & rangeMask(from & 63, Math.min(to, wordEnd) - (index << 6));
+      if (hits != 0) {
+        return (index << 6) + Long.numberOfTrailingZeros(hits);
+      }
+      from = wordEnd;
+    }
+    return -1;
+  }
+
+  private int nextClearBit(int fromMinute, int toMinute) {
+    int from = Math.max(fromMinute, 0);
+    int to = Math.min(toMinute, MINUTES_PER_DAY);
+    for (int index = from >>> 6; from < to; index++) {
+      int wordEnd = (index + 1) << 6;
+      long gaps = ~words[index] & rangeMask(from & 63, Math.min(to, wordEnd) - (index << 6));
+      if (gaps != 0) {
+        return (index << 6) + Long.numberOfTrailingZeros(gaps);
+      }
+      from = wordEnd;
+    }
+    return -1;
+  }
+
+  // The last set minute in [fromMinute, toMinute), scanning words from the top down.
+  private int previousSetBit(int fromMinute, int toMinute) {
+    int from = Math.max(fromMinute, 0);
+    int to = Math.min(toMinute, MINUTES_PER_DAY);
+    for (int index = (to - 1) >> 6; from < to; index--) {
+      int wordStart = index << 6;
+      long hits = words[index] & rangeMask(Math.max(from, wordStart) - wordStart, to - wordStart);
+      if (hits != 0) {
+        return wordStart + Long.SIZE - 1 - Long.numberOfLeadingZeros(hits);
+      }
+      to = wordStart;
+    }
+    return -1;
+  }
+
+  private int previousClearBit(int fromMinute, int toMinute) {
+    int from = Math.max(fromMinute, 0);
+    int to = Math.min(toMinute, MINUTES_PER_DAY);
+    for (int index = (to - 1) >> 6; from < to; index--) {
+      int wordStart = index << 6;
+      long gaps = ~words[index] & rangeMask(Math.max(from, wordStart) - wordStart, to - wordStart);
+      if (gaps != 0) {
+        return wordStart + Long.SIZE - 1 - Long.numberOfLeadingZeros(gaps);
+      }
+      to = wordStart;
+    }
+    return -1;
+  }
+
+  // Bits [fromBit, toBit) of a single word, with 0 <= fromBit < toBit <= 64.
+  private static long rangeMask(int fromBit, int toBit) {
+    long upper = toBit == Long.SIZE ? -1L : ~(-1L << toBit);
+    return (-1L << fromBit) & upper;
+  }
+}
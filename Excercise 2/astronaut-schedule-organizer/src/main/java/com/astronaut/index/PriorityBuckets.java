@@ -0,0 +1,98 @@
+package com.astronaut.index;
+
+import com.astronaut.models.Priority;
+import com.astronaut.models.Task;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// One start-time-ordered bucket per priority. A per-priority query copies one bucket, and the
+// priority-sorted view is the buckets concatenated from CRITICAL down to LOW.
+public class PriorityBuckets implements SortedTaskView {
+  private static final Comparator<Task> START_TIME_ORDER = Comparator.comparing(Task::getStartTime);
+  private static final Priority[] HIGHEST_FIRST = highestFirst();
+
+  private final Map<Priority, SortedTaskList> buckets;
+  private int size;
+
+  public PriorityBuckets() {
+    this.buckets = new EnumMap<>(Priority.class);
+    for (Priority priority : Priority.values()) {
+      buckets.put(priority, new SortedTaskList(START_TIME_ORDER));
+    }
+  }
+
+  public PriorityBuckets(Collection<Task> initialTasks) {
+    this();
+    for (Task task : initialTasks) {
+      insert(task);
+    }
+  }
+
+  @Override
+  public void insert(Task task) {
+    buckets.get(task.getPriority()).insert(task);
+    size++;
+  }
+
+  @Override
+  public void insertAll(Collection<Task> tasks) {
+    Map<Priority, List<Task>> byPriority = new EnumMap<>(Priority.class);
+    for (Task task : tasks) {
+      byPriority.computeIfAbsent(task.getPriority(), priority -> new ArrayList<>()).add(task);
+    }
+    for (Map.Entry<Priority, List<Task>> entry : byPriority.entrySet()) {
+      buckets.get(entry.getKey()).insertAll(entry.getValue());
+    }
+    size += tasks.size();
+  }
+
+  @Override
+  public boolean remove(Task task) {
+    boolean removed = buckets.get(task.getPriority()).remove(task);
+    if (removed) {
+      size--;
+    }
+    return removed;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public List<Task> copy() {
+    List<Task> result = new ArrayList<>(size);
+    for (Priority priority : HIGHEST_FIRST) {
+      buckets.get(priority).appendTo(result);
+    }
+    return result;
+  }
+
+  @Override
+  public void clear() {
+    for (SortedTaskList bucket : buckets.values()) {
+      bucket.clear();
+    }
+    size = 0;
+  }
+
+  public List<Task> copy(Priority priority) {
+    return buckets.get(priority).copy();
+  }
+
+  public int size(Priority priority) {
+    return buckets.get(priority).size();
+  }
+
+  private static Priority[] highestFirst() {
+    Priority[] priorities = Priority.values();
+    Arrays.sort(priorities, Comparator.comparingInt(Priority::getLevel).reversed());
+    return priorities;
+  }
+}
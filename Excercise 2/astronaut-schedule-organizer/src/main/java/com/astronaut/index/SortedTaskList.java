@@ -0,0 +1,70 @@
+package com.astronaut.index;
+
+import com.astronaut.models.Task;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+// Keeps tasks in comparator order with binary-search inserts and removes, so a sorted view is
+// maintained per mutation instead of re-sorted per read. Ties are broken by id to make the
+// order total, which lets remove locate the exact task.
+public class SortedTaskList implements SortedTaskView {
+  private final Comparator<Task> comparator;
+  private final List<Task> tasks;
+
+  public SortedTaskList(Comparator<Task> comparator) {
+    this.comparator = comparator.thenComparing(Task::getId);
+    this.tasks = new ArrayList<>();
+  }
+
+  public SortedTaskList(Comparator<Task> comparator, Collection<Task> initialTasks) {
+    this(comparator);
+    tasks.addAll(initialTasks);
+    tasks.sort(this.comparator);
+  }
+
+  @Override
+  public void insert(Task task) {
+    int index = Collections.binarySearch(tasks, task, comparator);
+    tasks.add(index < 0 ? -index - 1 : index, task);
+  }
+
+  // Appending and re-sorting lets the sort merge the existing run with the new tasks, instead of
+  // shifting the list once per binary-search insert.
+  @Override
+  public void insertAll(Collection<Task> newTasks) {
+    tasks.addAll(newTasks);
+    tasks.sort(comparator);
+  }
+
+  @Override
+  public boolean remove(Task task) {
+    int index = Collections.binarySearch(tasks, task, comparator);
+    if (index < 0 || tasks.get(index) != task) {
+      return false;
+    }
+    tasks.remove(index);
+    return true;
+  }
+
+  @Override
+  public int size() {
+    return tasks.size();
+  }
+
+  @Override
+  public List<Task> copy() {
+    return new ArrayList<>(tasks);
+  }
+
+  public void appendTo(List<Task> target) {
+    target.addAll(tasks);
+  }
+
+  @Override
+  public void clear() {
+    tasks.clear();
+  }
+}
@@ -0,0 +1,14 @@
+package com.astronaut.index;
+
+import com.astronaut.models.Task;
+import java.util.Collection;
+import java.util.List;
+
+public interface SortedTaskView {
+  void insert(Task task);
+  void insertAll(Collection<Task> tasks);
+  boolean remove(Task task);
+  int size();
+  List<Task> copy();
+  void clear();
+}
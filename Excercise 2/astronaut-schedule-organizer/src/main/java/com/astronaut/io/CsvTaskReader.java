@@ -0,0 +1,119 @@
+package com.astronaut.io;
+
+import com.astronaut.exceptions.InvalidRecordException;
+import com.astronaut.models.TaskInput;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// RFC 4180 style: fields may be quoted, quotes inside are doubled, and quoted fields may span
+// lines. Columns are description,start,end,priority[,status[,notes[,reminder]]]; a first row
+// starting with "description,start" is taken as the header and skipped. Blank lines are ignored.
+public class CsvTaskReader implements TaskRecordReader {
+  private static final int MIN_COLUMNS = 4;
+  private static final int MAX_COLUMNS = 7;
+
+  private final RecordInput input;
+  private final List<String> fields;
+  private final StringBuilder field;
+  private boolean headerChecked;
+
+  public CsvTaskReader(Path path) throws IOException {
+    this.input = new RecordInput(path);
+    this.fields = new ArrayList<>(MAX_COLUMNS);
+    this.field = new StringBuilder();
+  }
+
+  @Override
+  public TaskInput read() throws IOException, InvalidRecordException {
+    while (readRecord()) {
+      if (fields.size() == 1 && fields.get(0).trim().isEmpty()) {
+        continue;
+      }
+      if (!headerChecked) {
+        headerChecked = true;
+        if (isHeader()) {
+          continue;
+        }
+      }
+      return toTaskInput();
+    }
+    return null;
+  }
+
+  private boolean isHeader() {
+    return fields.size() >= 2
+        && fields.get(0).trim().equalsIgnoreCase("description")
+        && fields.get(1).trim().equalsIgnoreCase("start");
+  }
+
+  private TaskInput toTaskInput() throws InvalidRecordException {
+    if (fields.size() < MIN_COLUMNS || fields.size() > MAX_COLUMNS) {
+      throw new InvalidRecordException(
+          "Expected " + MIN_COLUMNS + " to " + MAX_COLUMNS + " columns but found " + fields.size());
+    }
+    return new TaskInput(
+        fields.get(0),
+        fields.get(1),
+        fields.get(2),
+        fields.get(3),
+        column(4),
+        column(5),
+        RecordFiles.parseReminderMinutes(column(6)));
+  }
+
+  private String column(int index) {
+    return index < fields.size() ? RecordFiles.emptyToNull(fields.get(index)) : null;
+  }
+
+  private boolean readRecord() throws IOException, InvalidRecordException {
+    fields.clear();
+    int c = input.read();
+    if (c < 0) {
+      return false;
+    }
+    while (true) {
+      field.setLength(0);
+      if (c == '"') {
+        while (true) {
+          c = input.read();
+          if (c < 0) {
+            throw new InvalidRecordException("Unterminated quoted field");
+          }
+          if (c == '"') {
+            if (input.peek() != '"') {
+              break;
+            }
+            input.read();
+          }
+          field.append((char) c);
+        }
+        c = input.read();
+        if (c >= 0 && c != ',' && c != '\n' && c != '\r') {
+          input.skipLine();
+          throw new InvalidRecordException("Unexpected character after quoted field");
+        }
+      } else {
+        while (c >= 0 && c != ',' && c != '\n' && c != '\r') {
+          field.append((char) c);
+          c = input.read();
+        }
+      }
+      fields.add(field.toString());
+      if (c == ',') {
+        c = input.read();
+        continue;
+      }
+      if (c == '\r' && input.peek() == '\n') {
+        input.read();
+      }
+      return true;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    input.close();
+  }
+}
@@ -0,0 +1,71 @@
+package com.astronaut.io;
+
+import com.astronaut.models.Task;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+
+public class CsvTaskWriter implements TaskRecordWriter {
+  static final String HEADER = "description,start,end,priority,status,notes,reminder";
+
+  private final Writer writer;
+
+  public CsvTaskWriter(Path path) throws IOException {
+    this.writer = RecordFiles.openWriter(path);
+    writer.write(HEADER);
+    writer.write('\n');
+  }
+
+  @Override
+  public void write(Task task, String notes, Integer reminderMinutes) throws IOException {
+    writeField(task.getDescription());
+    writer.write(',');
+    writer.write(task.getStartTime().toString());
+    writer.write(',');
+    writer.write(task.getEndTime().toString());
+    writer.write(',');
+    writer.write(task.getPriority().name());
+    writer.write(',');
+    writer.write(task.getStatus().name());
+    writer.write(',');
+    if (notes != null) {
+      writeField(notes);
+    }
+    writer.write(',');
+    if (reminderMinutes != null) {
+      writer.write(Integer.toString(reminderMinutes));
+    }
+    writer.write('\n');
+  }
+
+  private void writeField(String value) throws IOException {
+    if (!needsQuotes(value)) {
+      writer.write(value);
+      return;
+    }
+    writer.write('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"') {
+        writer.write('"');
+      }
+      writer.write(c);
+    }
+    writer.write('"');
+  }
+
+  private static boolean needsQuotes(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void close() throws IOException {
+    writer.close();
+  }
+}
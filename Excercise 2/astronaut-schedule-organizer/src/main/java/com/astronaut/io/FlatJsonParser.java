@@ -0,0 +1,150 @@
+package com.astronaut.io;
+
+import com.astronaut.exceptions.InvalidRecordException;
+import java.util.Map;
+
+// Parses a single JSON object whose values are strings, numbers, booleans or null, which is all
+// a task record needs. Numbers and booleans are kept as their source text.
+final class FlatJsonParser {
+  private final CharSequence text;
+  private int position;
+
+  FlatJsonParser(CharSequence text) {
+    this.text = text;
+  }
+
+  void parseObject(Map<String, String> into) throws InvalidRecordException {
+    skipWhitespace();
+    expect('{');
+    skipWhitespace();
+    if (peek() == '}') {
+      position++;
+    } else {
+      while (true) {
+        skipWhitespace();
+        String key = parseString();
+        skipWhitespace();
+        expect(':');
+        skipWhitespace();
+        into.put(key, parseValue());
+        skipWhitespace();
+        char c = next();
+        if (c == '}') {
+          break;
+        }
+        if (c != ',') {
+          throw error("Expected ',' or '}'");
+        }
+      }
+    }
+    skipWhitespace();
+    if (position < text.length()) {
+      throw error("Unexpected content after object");
+    }
+  }
+
+  private String parseValue() throws InvalidRecordException {
+    char c = peek();
+    if (c == '"') {
+      return parseString();
+    }
+    if (c == '{' || c == '[') {
+      throw error("Nested values are not supported");
+    }
+    int start = position;
+    while (position < text.length() && ",}] \t".indexOf(text.charAt(position)) < 0) {
+      position++;
+    }
+    String literal = text.subSequence(start, position).toString();
+    if (literal.equals("null")) {
+      return null;
+    }
+    if (literal.equals("true") || literal.equals("false") || isNumber(literal)) {
+      return literal;
+    }
+    throw error("Invalid value '" + literal + "'");
+  }
+
+  private String parseString() throws InvalidRecordException {
+    expect('"');
+    StringBuilder value = new StringBuilder();
+    while (true) {
+      char c = next();
+      if (c == '"') {
+        return value.toString();
+      }
+      if (c != '\\') {
+        value.append(c);
+        continue;
+      }
+      char escaped = next();
+      switch (escaped) {
+        case '"', '\\', '/' -> value.append(escaped);
+        case 'b' -> value.append('\b');
+        case 'f' -> value.append('\f');
+        case 'n' -> value.append('\n');
+        case 'r' -> value.append('\r');
+        case 't' -> value.append('\t');
+        case 'u' -> value.append(parseUnicodeEscape());
+        default -> throw error("Invalid escape '\\" + escaped + "'");
+      }
+    }
+  }
+
+  private char parseUnicodeEscape() throws InvalidRecordException {
+    if (position + 4 > text.length()) {
+      throw error("Truncated unicode escape");
+    }
+    int code = 0;
+    for (int i = 0; i < 4; i++) {
+      int digit = Character.digit(text.charAt(position++), 16);
+      if (digit < 0) {
+        throw error("Invalid unicode escape");
+      }
+      code = code * 16 + digit;
+    }
+    return (char) code;
+  }
+
+  private static boolean isNumber(String literal) {
+    if (literal.isEmpty()) {
+      return false;
+    }
+    try {
+      Double.parseDouble(literal);
+      return Character.isDigit(literal.charAt(literal.length() - 1));
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  private void skipWhitespace() {
+    while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+      position++;
+    }
+  }
+
+  private char peek() throws InvalidRecordException {
+    if (position >= text.length()) {
+      throw error("Unexpected end of line");
+    }
+    return text.charAt(position);
+  }
+
+  private char next() throws InvalidRecordException {
+    char c = peek();
+    position++;
+    return c;
+  }
+
+  private void expect(char expected) throws InvalidRecordException {
+    if (next() != expected) {
+      position--;
+      throw error("Expected '" + expected + "'");
+    }
+  }
+
+  private InvalidRecordException error(String message) {
+    return new InvalidRecordException("Malformed JSON at column " + (position + 1) + ": " + message);
+  }
+}
@@ -0,0 +1,56 @@
+package com.astronaut.io;
+
+import com.astronaut.exceptions.InvalidRecordException;
+import com.astronaut.models.TaskInput;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+// One flat JSON object per line with the keys description, start, end, priority and optionally
+// status, notes and reminder. Unknown keys are ignored and blank lines are skipped.
+public class JsonLinesTaskReader implements TaskRecordReader {
+  private final RecordInput input;
+  private final StringBuilder line;
+  private final Map<String, String> values;
+
+  public JsonLinesTaskReader(Path path) throws IOException {
+    this.input = new RecordInput(path);
+    this.line = new StringBuilder();
+    this.values = new HashMap<>();
+  }
+
+  @Override
+  public TaskInput read() throws IOException, InvalidRecordException {
+    while (input.readLine(line)) {
+      if (isBlank(line)) {
+        continue;
+      }
+      values.clear();
+      new FlatJsonParser(line).parseObject(values);
+      return new TaskInput(
+          values.get("description"),
+          values.get("start"),
+          values.get("end"),
+          values.get("priority"),
+          RecordFiles.emptyToNull(values.get("status")),
+          RecordFiles.emptyToNull(values.get("notes")),
+          RecordFiles.parseReminderMinutes(values.get("reminder")));
+    }
+    return null;
+  }
+
+  private static boolean isBlank(CharSequence text) {
+    for (int i = 0; i < text.length(); i++) {
+      if (!Character.isWhitespace(text.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void close() throws IOException {
+    input.close();
+  }
+}
@@ -0,0 +1,65 @@
+package com.astronaut.io;
+
+import com.astronaut.models.Task;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+
+public class JsonLinesTaskWriter implements TaskRecordWriter {
+  private final Writer writer;
+
+  public JsonLinesTaskWriter(Path path) throws IOException {
+    this.writer = RecordFiles.openWriter(path);
+  }
+
+  @Override
+  public void write(Task task, String notes, Integer reminderMinutes) throws IOException {
+    writer.write("{\"description\":");
+    writeString(task.getDescription());
+    writer.write(",\"start\":\"");
+    writer.write(task.getStartTime().toString());
+    writer.write("\",\"end\":\"");
+    writer.write(task.getEndTime().toString());
+    writer.write("\",\"priority\":\"");
+    writer.write(task.getPriority().name());
+    writer.write("\",\"status\":\"");
+    writer.write(task.getStatus().name());
+    writer.write('"');
+    if (notes != null) {
+      writer.write(",\"notes\":");
+      writeString(notes);
+    }
+    if (reminderMinutes != null) {
+      writer.write(",\"reminder\":");
+      writer.write(Integer.toString(reminderMinutes));
+    }
+    writer.write("}\n");
+  }
+
+  private void writeString(String value) throws IOException {
+    writer.write('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"' -> writer.write("\\\"");
+        case '\\' -> writer.write("\\\\");
+        case '\n' -> writer.write("\\n");
+        case '\r' -> writer.write("\\r");
+        case '\t' -> writer.write("\\t");
+        default -> {
+          if (c < 0x20) {
+            writer.write(String.format("\\u%04x", (int) c));
+          } else {
+            writer.write(c);
+          }
+        }
+      }
+    }
+    writer.write('"');
+  }
+
+  @Override
+  public void close() throws IOException {
+    writer.close();
+  }
+}
@@ -0,0 +1,51 @@
+package com.astronaut.io;
+
+import com.astronaut.exceptions.InvalidRecordException;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+final class RecordFiles {
+  static final int BUFFER_CHARS = 64 * 1024;
+
+  private RecordFiles() {}
+
+  // Unbuffered decoder over the channel; RecordInput does its own buffering.
+  static Reader openReader(Path path) throws IOException {
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    return Channels.newReader(channel, StandardCharsets.UTF_8.newDecoder(), -1);
+  }
+
+  static Writer openWriter(Path path) throws IOException {
+    FileChannel channel =
+        FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    return new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), -1), BUFFER_CHARS);
+  }
+
+  static String emptyToNull(String value) {
+    return value == null || value.trim().isEmpty() ? null : value;
+  }
+
+  static Integer parseReminderMinutes(String value) throws InvalidRecordException {
+    if (emptyToNull(value) == null) {
+      return null;
+    }
+    int minutes;
+    try {
+      minutes = Integer.parseInt(value.trim());
+    } catch (NumberFormatException e) {
+      throw new InvalidRecordException("Invalid reminder minutes: " + value);
+    }
+    if (minutes < 0) {
+      throw new InvalidRecordException("Reminder minutes cannot be negative: " + value);
+    }
+    return minutes;
+  }
+}
@@ -0,0 +1,92 @@
+package com.astronaut.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Path;
+
+// Char-at-a-time access over a large reusable buffer, without the per-call locking of
+// BufferedReader.read(). A leading byte order mark is skipped.
+final class RecordInput implements Closeable {
+  private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+  private final Reader reader;
+  private final char[] buffer;
+  private int position;
+  private int limit;
+
+  RecordInput(Path path) throws IOException {
+    this.reader = RecordFiles.openReader(path);
+    this.buffer = new char[RecordFiles.BUFFER_CHARS];
+    if (peek() == BYTE_ORDER_MARK) {
+      position++;
+    }
+  }
+
+  int peek() throws IOException {
+    if (position == limit && !fill()) {
+      return -1;
+    }
+    return buffer[position];
+  }
+
+  int read() throws IOException {
+    if (position == limit && !fill()) {
+      return -1;
+    }
+    return buffer[position++];
+  }
+
+  // Appends the next line, without its terminator, to line. Returns false at the end of input.
+  boolean readLine(StringBuilder line) throws IOException {
+    line.setLength(0);
+    if (position == limit && !fill()) {
+      return false;
+    }
+    while (true) {
+      int start = position;
+      while (position < limit) {
+        char c = buffer[position];
+        if (c == '\n' || c == '\r') {
+          line.append(buffer, start, position - start);
+          position++;
+          if (c == '\r' && peek() == '\n') {
+            position++;
+          }
+          return true;
+        }
+        position++;
+      }
+      line.append(buffer, start, position - start);
+      if (!fill()) {
+        return true;
+      }
+    }
+  }
+
+  // Skips the rest of the current line, used to resynchronise after a malformed record.
+  void skipLine() throws IOException {
+    int c;
+    do {
+      c = read();
+    } while (c >= 0 && c != '\n');
+  }
+
+  private boolean fill() throws IOException {
+    int read;
+    do {
+      read = reader.read(buffer, 0, buffer.length);
+    } while (read == 0);
+    if (read < 0) {
+      return false;
+    }
+    position = 0;
+    limit = read;
+    return true;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+}
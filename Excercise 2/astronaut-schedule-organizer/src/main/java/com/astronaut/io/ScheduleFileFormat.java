@@ -0,0 +1,58 @@
+package com.astronaut.io;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+public enum ScheduleFileFormat {
+  CSV("CSV", ".csv"),
+  JSON_LINES("JSON Lines", ".jsonl");
+
+  private final String displayName;
+  private final String extension;
+
+  ScheduleFileFormat(String displayName, String extension) {
+    this.displayName = displayName;
+    this.extension = extension;
+  }
+
+  public String getDisplayName() {
+    return displayName;
+  }
+
+  public String getExtension() {
+    return extension;
+  }
+
+  public static ScheduleFileFormat fromFileName(String fileName) {
+    if (fileName == null || fileName.trim().isEmpty()) {
+      throw new IllegalArgumentException("File name cannot be null or empty");
+    }
+    String lowerCase = fileName.trim().toLowerCase(Locale.ROOT);
+    for (ScheduleFileFormat format : ScheduleFileFormat.values()) {
+      if (lowerCase.endsWith(format.extension)) {
+        return format;
+      }
+    }
+    throw new IllegalArgumentException("Unsupported file type: " + fileName + " (expected .csv or .jsonl)");
+  }
+
+  public TaskRecordReader openReader(Path path) throws IOException {
+    return switch (this) {
+      case CSV -> new CsvTaskReader(path);
+      case JSON_LINES -> new JsonLinesTaskReader(path);
+    };
+  }
+
+  public TaskRecordWriter openWriter(Path path) throws IOException {
+    return switch (this) {
+      case CSV -> new CsvTaskWriter(path);
+      case JSON_LINES -> new JsonLinesTaskWriter(path);
+    };
+  }
+
+  @Override
+  public String toString() {
+    return displayName;
+  }
+}
@@ -0,0 +1,12 @@
+package com.astronaut.io;
+
+import com.astronaut.exceptions.InvalidRecordException;
+import com.astronaut.models.TaskInput;
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface TaskRecordReader extends Closeable {
+  // Returns the next record, or null at the end of the file. A malformed record throws
+  // InvalidRecordException after it has been consumed, so the caller can keep reading.
+  TaskInput read() throws IOException, InvalidRecordException;
+}
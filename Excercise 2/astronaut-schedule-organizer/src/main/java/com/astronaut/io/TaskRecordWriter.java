@@ -0,0 +1,10 @@
+package com.astronaut.io;
+
+import com.astronaut.models.Task;
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface TaskRecordWriter extends Closeable {
+  // Notes and reminderMinutes may be null.
+  void write(Task task, String notes, Integer reminderMinutes) throws IOException;
+}
@@ -0,0 +1,36 @@
+package com.astronaut.models;
+
+import java.util.Collections;
+import java.util.List;
+
+// Outcome of auto-scheduling a batch: the tasks now in the schedule and the ones that found no
+// room, with how many candidate plans were compared to choose them.
+public class AutoScheduleResult {
+  private final List<Task> placed;
+  private final List<FlexibleTask> unplaced;
+  private final int plansEvaluated;
+  private final long elapsedNanos;
+
+  public AutoScheduleResult(List<Task> placed, List<FlexibleTask> unplaced, int plansEvaluated, long elapsedNanos) {
+    this.placed = Collections.unmodifiableList(placed);
+    this.unplaced = Collections.unmodifiableList(unplaced);
+    this.plansEvaluated = plansEvaluated;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  public List<Task> getPlaced() {
+    return placed;
+  }
+
+  public List<FlexibleTask> getUnplaced() {
+    return unplaced;
+  }
+
+  public int getPlansEvaluated() {
+    return plansEvaluated;
+  }
+
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+}
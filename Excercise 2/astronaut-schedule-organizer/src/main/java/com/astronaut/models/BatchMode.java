@@ -0,0 +1,21 @@
+package com.astronaut.models;
+
+public enum BatchMode {
+  ALL_OR_NOTHING("All or Nothing"),
+  BEST_EFFORT("Best Effort");
+
+  private final String displayName;
+
+  BatchMode(String displayName) {
+    this.displayName = displayName;
+  }
+
+  public String getDisplayName() {
+    return displayName;
+  }
+
+  @Override
+  public String toString() {
+    return displayName;
+  }
+}
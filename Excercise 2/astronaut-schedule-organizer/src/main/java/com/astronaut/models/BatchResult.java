@@ -0,0 +1,42 @@
+package com.astronaut.models;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Outcome of a batch import, one row result per submitted row in submission order.
+public class BatchResult {
+  private final BatchMode mode;
+  private final List<BatchRowResult> rows;
+  private final int addedCount;
+
+  public BatchResult(BatchMode mode, List<BatchRowResult> rows) {
+    this.mode = mode;
+    this.rows = Collections.unmodifiableList(rows);
+    this.addedCount = (int) rows.stream().filter(row -> row.getStatus() == BatchRowStatus.ADDED).count();
+  }
+
+  public BatchMode getMode() {
+    return mode;
+  }
+
+  public List<BatchRowResult> getRows() {
+    return rows;
+  }
+
+  public int getAddedCount() {
+    return addedCount;
+  }
+
+  public int getRowCount() {
+    return rows.size();
+  }
+
+  public boolean hasFailures() {
+    return addedCount < rows.size();
+  }
+
+  public List<BatchRowResult> getFailures() {
+    return rows.stream().filter(row -> row.getStatus() != BatchRowStatus.ADDED).collect(Collectors.toList());
+  }
+}
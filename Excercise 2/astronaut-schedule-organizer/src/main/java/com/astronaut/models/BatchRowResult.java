@@ -0,0 +1,38 @@
+package com.astronaut.models;
+
+public class BatchRowResult {
+  private final int row;
+  private final BatchRowStatus status;
+  private final Task task;
+  private final String message;
+
+  public BatchRowResult(int row, BatchRowStatus status, Task task, String message) {
+    this.row = row;
+    this.status = status;
+    this.task = task;
+    this.message = message;
+  }
+
+  // Zero-based position of the row in the submitted batch.
+  public int getRow() {
+    return row;
+  }
+
+  public BatchRowStatus getStatus() {
+    return status;
+  }
+
+  // Null when the row could not be parsed into a task.
+  public Task getTask() {
+    return task;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("Row %d: %s%s", row + 1, status, message == null ? "" : " - " + message);
+  }
+}
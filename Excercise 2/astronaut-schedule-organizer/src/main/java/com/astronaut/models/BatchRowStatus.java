@@ -0,0 +1,23 @@
+package com.astronaut.models;
+
+public enum BatchRowStatus {
+  ADDED("Added"),
+  INVALID("Invalid"),
+  CONFLICT("Conflict"),
+  NOT_COMMITTED("Not Committed");
+
+  private final String displayName;
+
+  BatchRowStatus(String displayName) {
+    this.displayName = displayName;
+  }
+
+  public String getDisplayName() {
+    return displayName;
+  }
+
+  @Override
+  public String toString() {
+    return displayName;
+  }
+}
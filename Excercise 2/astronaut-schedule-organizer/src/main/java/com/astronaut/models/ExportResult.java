@@ -0,0 +1,23 @@
+package com.astronaut.models;
+
+public class ExportResult {
+  private final int rowsWritten;
+  private final long elapsedNanos;
+
+  public ExportResult(int rowsWritten, long elapsedNanos) {
+    this.rowsWritten = rowsWritten;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  public int getRowsWritten() {
+    return rowsWritten;
+  }
+
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  public double getRowsPerSecond() {
+    return elapsedNanos == 0 ? 0 : rowsWritten * 1_000_000_000.0 / elapsedNanos;
+  }
+}
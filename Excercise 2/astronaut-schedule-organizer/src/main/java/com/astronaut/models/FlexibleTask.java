@@ -0,0 +1,57 @@
+package com.astronaut.models;
+
+import java.time.LocalTime;
+
+// A task that may run anywhere inside its window, for the auto-scheduler to place.
+public class FlexibleTask {
+  private final String description;
+  private final int durationMinutes;
+  private final Priority priority;
+  private final LocalTime earliestStart;
+  private final LocalTime latestEnd;
+
+  public FlexibleTask(
+      String description, int durationMinutes, Priority priority, LocalTime earliestStart, LocalTime latestEnd) {
+    if (description == null || priority == null || earliestStart == null || latestEnd == null) {
+      throw new IllegalArgumentException("Description, priority and window cannot be null");
+    }
+    if (durationMinutes <= 0) {
+      throw new IllegalArgumentException("Duration must be positive");
+    }
+    if (earliestStart.plusMinutes(durationMinutes).isAfter(latestEnd)
+        || earliestStart.plusMinutes(durationMinutes).isBefore(earliestStart)) {
+      throw new IllegalArgumentException("Window is shorter than the task: " + description);
+    }
+    this.description = description;
+    this.durationMinutes = durationMinutes;
+    this.priority = priority;
+    this.earliestStart = earliestStart;
+    this.latestEnd = latestEnd;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public int getDurationMinutes() {
+    return durationMinutes;
+  }
+
+  public Priority getPriority() {
+    return priority;
+  }
+
+  public LocalTime getEarliestStart() {
+    return earliestStart;
+  }
+
+  public LocalTime getLatestEnd() {
+    return latestEnd;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s (%d min, %s-%s) [%s]", description, durationMinutes, earliestStart, latestEnd, priority);
+  }
+}
@@ -0,0 +1,53 @@
+package com.astronaut.models;
+
+import java.util.Collections;
+import java.util.List;
+
+// Summary of a file import. Only the first failures are kept so a bad multi-million-row file
+// cannot exhaust memory; getFailedCount still counts all of them.
+public class ImportResult {
+  private final BatchMode mode;
+  private final int rowsRead;
+  private final int addedCount;
+  private final int failedCount;
+  private final List<BatchRowResult> failures;
+  private final long elapsedNanos;
+
+  public ImportResult(
+      BatchMode mode, int rowsRead, int addedCount, int failedCount, List<BatchRowResult> failures, long elapsedNanos) {
+    this.mode = mode;
+    this.rowsRead = rowsRead;
+    this.addedCount = addedCount;
+    this.failedCount = failedCount;
+    this.failures = Collections.unmodifiableList(failures);
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  public BatchMode getMode() {
+    return mode;
+  }
+
+  public int getRowsRead() {
+    return rowsRead;
+  }
+
+  public int getAddedCount() {
+    return addedCount;
+  }
+
+  public int getFailedCount() {
+    return failedCount;
+  }
+
+  public List<BatchRowResult> getFailures() {
+    return failures;
+  }
+
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  public double getRowsPerSecond() {
+    return elapsedNanos == 0 ? 0 : rowsRead * 1_000_000_000.0 / elapsedNanos;
+  }
+}
@@ -0,0 +1,34 @@
+package com.astronaut.models;
+
+import java.util.Collections;
+import java.util.List;
+
+// Outcome of adding a task with preemption: the task itself, the lower-priority tasks it pushed
+// to another time, and the ones that found no free time left and were removed.
+public class PreemptionResult {
+  private final Task task;
+  private final List<TaskRelocation> relocated;
+  private final List<Task> unplaced;
+
+  public PreemptionResult(Task task, List<TaskRelocation> relocated, List<Task> unplaced) {
+    this.task = task;
+    this.relocated = Collections.unmodifiableList(relocated);
+    this.unplaced = Collections.unmodifiableList(unplaced);
+  }
+
+  public Task getTask() {
+    return task;
+  }
+
+  public List<TaskRelocation> getRelocated() {
+    return relocated;
+  }
+
+  public List<Task> getUnplaced() {
+    return unplaced;
+  }
+
+  public boolean hasDisplaced() {
+    return !relocated.isEmpty() || !unplaced.isEmpty();
+  }
+}
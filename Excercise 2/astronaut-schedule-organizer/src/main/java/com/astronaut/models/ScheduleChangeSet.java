@@ -0,0 +1,55 @@
+package com.astronaut.models;
+
+import java.util.Collections;
+import java.util.List;
+
+// The net effect of several schedule changes, delivered to observers as one event. Each task id
+// appears in at most one of the added, removed and updated lists: a task added and then updated
+// is listed as added in its final form, and one added and then removed is not listed at all.
+public class ScheduleChangeSet {
+  private final long version;
+  private final List<Task> added;
+  private final List<Task> removed;
+  private final List<Task> updated;
+  private final List<TaskConflict> conflicts;
+
+  public ScheduleChangeSet(
+      long version, List<Task> added, List<Task> removed, List<Task> updated, List<TaskConflict> conflicts) {
+    this.version = version;
+    this.added = Collections.unmodifiableList(added);
+    this.removed = Collections.unmodifiableList(removed);
+    this.updated = Collections.unmodifiableList(updated);
+    this.conflicts = Collections.unmodifiableList(conflicts);
+  }
+
+  // Schedule version after the last change in the set, comparable with ScheduleSnapshot versions.
+  public long getVersion() {
+    return version;
+  }
+
+  public List<Task> getAdded() {
+    return added;
+  }
+
+  public List<Task> getRemoved() {
+    return removed;
+  }
+
+  // Tasks in their new form; they keep the id of the task they replaced.
+  public List<Task> getUpdated() {
+    return updated;
+  }
+
+  public List<TaskConflict> getConflicts() {
+    return conflicts;
+  }
+
+  public boolean isEmpty() {
+    return added.isEmpty() && removed.isEmpty() && updated.isEmpty() && conflicts.isEmpty();
+  }
+
+  // Number of tasks changed, not counting rejected ones.
+  public int size() {
+    return added.size() + removed.size() + updated.size();
+  }
+}
@@ -0,0 +1,34 @@
+package com.astronaut.models;
+
+import java.util.Collections;
+import java.util.List;
+
+// An immutable, already-sorted view of the schedule as of one version. ScheduleManager never
+// mutates a Task after publishing it; updates publish a replacement with the same id.
+public class ScheduleSnapshot {
+  private final long version;
+  private final String sortStrategyName;
+  private final List<Task> tasks;
+
+  public ScheduleSnapshot(long version, String sortStrategyName, List<Task> sortedTasks) {
+    this.version = version;
+    this.sortStrategyName = sortStrategyName;
+    this.tasks = Collections.unmodifiableList(sortedTasks);
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public String getSortStrategyName() {
+    return sortStrategyName;
+  }
+
+  public List<Task> getTasks() {
+    return tasks;
+  }
+
+  public int size() {
+    return tasks.size();
+  }
+}
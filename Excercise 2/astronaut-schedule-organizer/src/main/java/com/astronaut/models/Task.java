@@ -1,7 +1,7 @@
 package com.astronaut.models;
 
+import com.astronaut.utils.TaskIds;
 import java.time.LocalTime;
-import java.util.UUID;
 
 public class Task {
   private final String id;
@@ -12,12 +12,18 @@ public class Task {
   private TaskStatus status;
 
   public Task(String description, LocalTime startTime, LocalTime endTime, Priority priority) {
-    this.id = UUID.randomUUID().toString();
+    this(TaskIds.next(), description, startTime, endTime, priority, TaskStatus.PENDING);
+  }
+
+  // Used to build a new version of an existing task that keeps its identity.
+  public Task(
+      String id, String description, LocalTime startTime, LocalTime endTime, Priority priority, TaskStatus status) {
+    this.id = id;
     this.description = description;
     this.startTime = startTime;
     this.endTime = endTime;
     this.priority = priority;
-    this.status = TaskStatus.PENDING;
+    this.status = status;
   }
 
   // Getters and Setters
@@ -0,0 +1,44 @@
+package com.astronaut.models;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Names one kind of metadata that can be attached to a stored task (see
+// ScheduleManager.setAttachment). Each key gets its own slot number when created, so a lookup is
+// an array index; define keys once, as constants.
+public final class TaskAttachment<T> {
+  private static final AtomicInteger nextSlot = new AtomicInteger();
+
+  public static final TaskAttachment<String> NOTES = new TaskAttachment<>("notes", String.class);
+  public static final TaskAttachment<Integer> REMINDER_MINUTES =
+      new TaskAttachment<>("reminderMinutes", Integer.class);
+
+  private final String name;
+  private final Class<T> type;
+  private final int slot;
+
+  public TaskAttachment(String name, Class<T> type) {
+    if (name == null || type == null) {
+      throw new IllegalArgumentException("Attachment name and type cannot be null");
+    }
+    this.name = name;
+    this.type = type;
+    this.slot = nextSlot.getAndIncrement();
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Class<T> getType() {
+    return type;
+  }
+
+  public int getSlot() {
+    return slot;
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
@@ -0,0 +1,20 @@
+package com.astronaut.models;
+
+// A task that was rejected because it overlaps one already in the schedule.
+public class TaskConflict {
+  private final Task newTask;
+  private final Task conflictingTask;
+
+  public TaskConflict(Task newTask, Task conflictingTask) {
+    this.newTask = newTask;
+    this.conflictingTask = conflictingTask;
+  }
+
+  public Task getNewTask() {
+    return newTask;
+  }
+
+  public Task getConflictingTask() {
+    return conflictingTask;
+  }
+}
@@ -0,0 +1,62 @@
+package com.astronaut.models;
+
+// One unparsed row of a batch import, as the user or a file supplied it. Status, notes and
+// reminder are optional and null when absent.
+public class TaskInput {
+  private final String description;
+  private final String startTime;
+  private final String endTime;
+  private final String priority;
+  private final String status;
+  private final String notes;
+  private final Integer reminderMinutes;
+
+  public TaskInput(String description, String startTime, String endTime, String priority) {
+    this(description, startTime, endTime, priority, null, null, null);
+  }
+
+  public TaskInput(
+      String description,
+      String startTime,
+      String endTime,
+      String priority,
+      String status,
+      String notes,
+      Integer reminderMinutes) {
+    this.description = description;
+    this.startTime = startTime;
+    this.endTime = endTime;
+    this.priority = priority;
+    this.status = status;
+    this.notes = notes;
+    this.reminderMinutes = reminderMinutes;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public String getStartTime() {
+    return startTime;
+  }
+
+  public String getEndTime() {
+    return endTime;
+  }
+
+  public String getPriority() {
+    return priority;
+  }
+
+  public String getStatus() {
+    return status;
+  }
+
+  public String getNotes() {
+    return notes;
+  }
+
+  public Integer getReminderMinutes() {
+    return reminderMinutes;
+  }
+}
@@ -0,0 +1,31 @@
+package com.astronaut.models;
+
+// A task that was moved to make room for another: the same id before and after the move.
+public class TaskRelocation {
+  private final Task original;
+  private final Task relocated;
+
+  public TaskRelocation(Task original, Task relocated) {
+    this.original = original;
+    this.relocated = relocated;
+  }
+
+  public Task getOriginal() {
+    return original;
+  }
+
+  public Task getRelocated() {
+    return relocated;
+  }
+
+  @Override
+  public String toString() {
+    return original.getDescription()
+        + ": "
+        + original.getStartTime()
+        + " -> "
+        + relocated.getStartTime()
+        + " - "
+        + relocated.getEndTime();
+  }
+}
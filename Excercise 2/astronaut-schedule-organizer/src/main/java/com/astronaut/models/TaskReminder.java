@@ -0,0 +1,37 @@
+package com.astronaut.models;
+
+// A reminder that came due. Times are epoch milliseconds of the reminder clock; the jitter is how
+// late it fired.
+public class TaskReminder {
+  private final Task task;
+  private final int minutesBefore;
+  private final long dueMillis;
+  private final long firedMillis;
+
+  public TaskReminder(Task task, int minutesBefore, long dueMillis, long firedMillis) {
+    this.task = task;
+    this.minutesBefore = minutesBefore;
+    this.dueMillis = dueMillis;
+    this.firedMillis = firedMillis;
+  }
+
+  public Task getTask() {
+    return task;
+  }
+
+  public int getMinutesBefore() {
+    return minutesBefore;
+  }
+
+  public long getDueMillis() {
+    return dueMillis;
+  }
+
+  public long getFiredMillis() {
+    return firedMillis;
+  }
+
+  public long getJitterMillis() {
+    return firedMillis - dueMillis;
+  }
+}
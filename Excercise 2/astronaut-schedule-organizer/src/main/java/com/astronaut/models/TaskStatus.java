@@ -16,6 +16,18 @@ public enum TaskStatus {
     return displayName;
   }
 
+  public static TaskStatus fromString(String value) {
+    if (value == null || value.trim().isEmpty()) {
+      throw new IllegalArgumentException("Status cannot be null or empty");
+    }
+    for (TaskStatus status : TaskStatus.values()) {
+      if (status.name().equalsIgnoreCase(value.trim())) {
+        return status;
+      }
+    }
+    throw new IllegalArgumentException("Invalid status: " + value);
+  }
+
   @Override
   public String toString() {
     return displayName;
@@ -0,0 +1,55 @@
+package com.astronaut.partition;
+
+import com.astronaut.persistence.PersistenceConfig;
+
+public class PartitionConfig {
+  private static final int DEFAULT_MAX_RESIDENT_PARTITIONS = 64;
+  private static final long DEFAULT_IDLE_EVICT_MILLIS = 10 * 60 * 1000;
+
+  private final int maxResidentPartitions;
+  private final long idleEvictMillis;
+  private final int queryThreads;
+  private final PersistenceConfig persistenceConfig;
+
+  // idleEvictMillis <= 0 turns idle eviction off; the resident limit still applies.
+  public PartitionConfig(
+      int maxResidentPartitions, long idleEvictMillis, int queryThreads, PersistenceConfig persistenceConfig) {
+    if (maxResidentPartitions <= 0) {
+      throw new IllegalArgumentException("Resident partition limit must be positive");
+    }
+    if (queryThreads <= 0) {
+      throw new IllegalArgumentException("Query threads must be positive");
+    }
+    if (persistenceConfig == null) {
+      throw new IllegalArgumentException("Persistence config cannot be null");
+    }
+    this.maxResidentPartitions = maxResidentPartitions;
+    this.idleEvictMillis = idleEvictMillis;
+    this.queryThreads = queryThreads;
+    this.persistenceConfig = persistenceConfig;
+  }
+
+  public static PartitionConfig defaults() {
+    return new PartitionConfig(
+        DEFAULT_MAX_RESIDENT_PARTITIONS,
+        DEFAULT_IDLE_EVICT_MILLIS,
+        Runtime.getRuntime().availableProcessors(),
+        PersistenceConfig.defaults());
+  }
+
+  public int getMaxResidentPartitions() {
+    return maxResidentPartitions;
+  }
+
+  public long getIdleEvictMillis() {
+    return idleEvictMillis;
+  }
+
+  public int getQueryThreads() {
+    return queryThreads;
+  }
+
+  public PersistenceConfig getPersistenceConfig() {
+    return persistenceConfig;
+  }
+}
@@ -0,0 +1,370 @@
+package com.astronaut.partition;
+
+import com.astronaut.models.Priority;
+import com.astronaut.models.Task;
+import com.astronaut.patterns.creational.singleton.ScheduleEdit;
+import com.astronaut.patterns.creational.singleton.ScheduleManager;
+import com.astronaut.persistence.SchedulePersistence;
+import com.astronaut.store.ScheduleView;
+import com.astronaut.utils.Logger;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+// Schedules for many crew members and mission days, one partition per (crew member, date). Each
+// partition is its own ScheduleManager with its own indexes, lock and journal folder
+// (root/<date>/<crew member>), so work on different partitions never waits on a shared lock.
+//
+// Partitions load from disk on first use. Ones left idle, or the least recently used once more
+// than the resident limit are loaded, get a snapshot and are dropped from memory; the next use
+// loads them again. A partition is only reachable inside read() and edit(), which keep it from
+// being evicted while they run, so a caller never writes to a schedule that is no longer saved.
+public class PartitionedScheduleStore implements Closeable {
+  private static final class Partition {
+    private final ScheduleKey key;
+    // Held shared while the partition is in use and exclusively while it is evicted.
+    private final ReentrantReadWriteLock residency;
+    private volatile ScheduleManager manager;
+    private SchedulePersistence persistence;
+    private volatile long lastUsedNanos;
+    private boolean evicted;
+
+    private Partition(ScheduleKey key) {
+      this.key = key;
+      this.residency = new ReentrantReadWriteLock();
+    }
+  }
+
+  private final Path root;
+  private final PartitionConfig config;
+  private final Map<ScheduleKey, Partition> partitions;
+  private final AtomicInteger residentCount;
+  private final ExecutorService queryPool;
+  private final ScheduledExecutorService evictor;
+  private final Logger logger;
+  private volatile boolean closed;
+
+  public PartitionedScheduleStore(Path root, PartitionConfig config) throws IOException {
+    if (root == null || config == null) {
+      throw new IllegalArgumentException("Root directory and partition config cannot be null");
+    }
+    Files.createDirectories(root);
+    this.root = root;
+    this.config = config;
+    this.partitions = new ConcurrentHashMap<>();
+    this.residentCount = new AtomicInteger();
+    AtomicInteger queryThreadCount = new AtomicInteger();
+    this.queryPool =
+        Executors.newFixedThreadPool(
+            config.getQueryThreads(),
+            runnable -> {
+              Thread thread = new Thread(runnable, "partition-query-" + queryThreadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.evictor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "partition-evictor");
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.logger = Logger.getInstance();
+    long idleMillis = config.getIdleEvictMillis();
+    if (idleMillis > 0) {
+      long period = Math.max(1, idleMillis / 2);
+      evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  public <T> T read(ScheduleKey key, Function<? super ScheduleView, T> query) {
+    if (query == null) {
+      throw new IllegalArgumentException("Query cannot be null");
+    }
+    Partition partition = pin(key);
+    try {
+      return query.apply(partition.manager);
+    } finally {
+      partition.residency.readLock().unlock();
+    }
+  }
+
+  // Runs the edit as one ScheduleManager.applyChanges step on the partition.
+  public <E extends Exception> void edit(ScheduleKey key, ScheduleEdit<E> edit) throws E {
+    if (edit == null) {
+      throw new IllegalArgumentException("Edit cannot be null");
+    }
+    Partition partition = pin(key);
+    try {
+      partition.manager.applyChanges(edit);
+    } finally {
+      partition.residency.readLock().unlock();
+    }
+  }
+
+  // Runs the query on every given partition at once on the query threads, loading the ones not
+  // in memory, and returns the answers in key order.
+  public <T> Map<ScheduleKey, T> readAll(Collection<ScheduleKey> keys, Function<? super ScheduleView, T> query) {
+    if (keys == null || query == null) {
+      throw new IllegalArgumentException("Keys and query cannot be null");
+    }
+    List<ScheduleKey> sorted = new ArrayList<>(new TreeSet<>(keys));
+    Map<ScheduleKey, T> results = new LinkedHashMap<>();
+    if (sorted.size() == 1) {
+      results.put(sorted.get(0), read(sorted.get(0), query));
+      return results;
+    }
+    List<Future<T>> answers = new ArrayList<>(sorted.size());
+    try {
+      for (ScheduleKey key : sorted) {
+        answers.add(queryPool.submit(() -> read(key, query)));
+      }
+      for (int i = 0; i < sorted.size(); i++) {
+        results.put(sorted.get(i), answers.get(i).get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while querying schedules", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException("Schedule query failed", cause);
+    } catch (RejectedExecutionException e) {
+      throw new IllegalStateException("Schedule store is closed", e);
+    } finally {
+      for (Future<T> answer : answers) {
+        answer.cancel(false);
+      }
+    }
+    return results;
+  }
+
+  public <T> Map<ScheduleKey, T> readAll(LocalDate date, Function<? super ScheduleView, T> query) {
+    return readAll(getKeys(date), query);
+  }
+
+  // Every task of one priority on a day across the whole crew, by crew member. Crew members with
+  // no such task are left out.
+  public Map<String, List<Task>> getTasksByPriority(LocalDate date, Priority priority) {
+    if (priority == null) {
+      throw new IllegalArgumentException("Priority cannot be null");
+    }
+    Map<String, List<Task>> byCrewMember = new TreeMap<>();
+    readAll(date, view -> view.getTasksByPriority(priority))
+        .forEach(
+            (key, tasks) -> {
+              if (!tasks.isEmpty()) {
+                byCrewMember.put(key.getCrewMember(), tasks);
+              }
+            });
+    return byCrewMember;
+  }
+
+  // The partitions that exist for a day, whether in memory or only on disk.
+  public List<ScheduleKey> getKeys(LocalDate date) {
+    if (date == null) {
+      throw new IllegalArgumentException("Date cannot be null");
+    }
+    TreeSet<ScheduleKey> keys = new TreeSet<>();
+    for (ScheduleKey key : partitions.keySet()) {
+      if (key.getDate().equals(date)) {
+        keys.add(key);
+      }
+    }
+    Path day = root.resolve(date.toString());
+    if (Files.isDirectory(day)) {
+      try (DirectoryStream<Path> crewFolders = Files.newDirectoryStream(day, Files::isDirectory)) {
+        for (Path folder : crewFolders) {
+          String crewMember = folder.getFileName().toString();
+          if (ScheduleKey.isCrewMemberFolder(crewMember)) {
+            keys.add(new ScheduleKey(crewMember, date));
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to list schedules for " + date, e);
+      }
+    }
+    return new ArrayList<>(keys);
+  }
+
+  public int getResidentCount() {
+    return residentCount.get();
+  }
+
+  public Path getRoot() {
+    return root;
+  }
+
+  // Snapshots and drops partitions that have not been used for the configured idle time, unless
+  // they are in use right now. Returns how many were dropped.
+  public int evictIdle() {
+    long idleNanos = TimeUnit.MILLISECONDS.toNanos(config.getIdleEvictMillis());
+    if (idleNanos <= 0) {
+      return 0;
+    }
+    long now = System.nanoTime();
+    int evicted = 0;
+    for (Partition partition : partitions.values()) {
+      if (now - partition.lastUsedNanos >= idleNanos && tryEvict(partition, false)) {
+        evicted++;
+      }
+    }
+    return evicted;
+  }
+
+  // Saves and drops every partition and stops the background threads. The partitions load again
+  // from disk in a new store.
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    evictor.shutdownNow();
+    queryPool.shutdown();
+    try {
+      evictor.awaitTermination(5, TimeUnit.SECONDS);
+      queryPool.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    for (Partition partition : partitions.values()) {
+      tryEvict(partition, true);
+    }
+  }
+
+  private Partition pin(ScheduleKey key) {
+    if (key == null) {
+      throw new IllegalArgumentException("Schedule key cannot be null");
+    }
+    while (true) {
+      if (closed) {
+        throw new IllegalStateException("Schedule store is closed");
+      }
+      Partition partition = partitions.computeIfAbsent(key, Partition::new);
+      partition.residency.readLock().lock();
+      if (!partition.evicted) {
+        try {
+          load(partition);
+        } catch (IOException e) {
+          partition.residency.readLock().unlock();
+          throw new UncheckedIOException("Failed to load schedule " + key, e);
+        } catch (RuntimeException e) {
+          partition.residency.readLock().unlock();
+          throw e;
+        }
+        partition.lastUsedNanos = System.nanoTime();
+        return partition;
+      }
+      // Evicted between the lookup and the lock; the next lookup creates a fresh partition.
+      partition.residency.readLock().unlock();
+    }
+  }
+
+  private void load(Partition partition) throws IOException {
+    synchronized (partition) {
+      if (partition.manager != null) {
+        return;
+      }
+      ScheduleManager manager = ScheduleManager.newInstance();
+      partition.persistence =
+          SchedulePersistence.open(directoryOf(partition.key), config.getPersistenceConfig(), manager);
+      partition.manager = manager;
+    }
+    if (residentCount.incrementAndGet() > config.getMaxResidentPartitions()) {
+      try {
+        evictor.execute(this::evictOverflow);
+      } catch (RejectedExecutionException e) {
+        // Closing; close() saves every partition anyway.
+      }
+    }
+  }
+
+  // Drops the least recently used partitions that are not in use until the limit is met again.
+  private void evictOverflow() {
+    int excess = residentCount.get() - config.getMaxResidentPartitions();
+    if (excess <= 0) {
+      return;
+    }
+    List<Partition> byLastUse = new ArrayList<>(partitions.values());
+    byLastUse.sort(Comparator.comparingLong(partition -> partition.lastUsedNanos));
+    for (Partition partition : byLastUse) {
+      if (excess <= 0) {
+        break;
+      }
+      if (partition.manager != null && tryEvict(partition, false)) {
+        excess--;
+      }
+    }
+  }
+
+  // Without wait, a partition in use is skipped. The journal stays the source of truth, so a
+  // failed snapshot loses nothing; the partition is replayed from the journal on its next load.
+  private boolean tryEvict(Partition partition, boolean wait) {
+    ReentrantReadWriteLock.WriteLock exclusive = partition.residency.writeLock();
+    if (wait) {
+      exclusive.lock();
+    } else if (!exclusive.tryLock()) {
+      return false;
+    }
+    try {
+      if (partition.evicted) {
+        return false;
+      }
+      partition.evicted = true;
+      if (partition.manager != null) {
+        try {
+          partition.persistence.snapshot();
+        } catch (IOException | RuntimeException e) {
+          logger.warn("Snapshot failed while evicting schedule {}: {}", partition.key, e.getMessage());
+        }
+        try {
+          partition.persistence.close();
+        } catch (IOException e) {
+          logger.warn("Closing journal failed while evicting schedule {}: {}", partition.key, e.getMessage());
+        }
+        // Observer threads and their shutdown hook would otherwise keep the schedule in memory.
+        partition.manager.disableChangeCoalescing();
+        partition.manager.disableAsyncObservers();
+        residentCount.decrementAndGet();
+        logger.debug("Schedule evicted: {}", partition.key);
+      }
+      partitions.remove(partition.key, partition);
+      return true;
+    } finally {
+      exclusive.unlock();
+    }
+  }
+
+  private Path directoryOf(ScheduleKey key) {
+    return root.resolve(key.getDate().toString()).resolve(key.getCrewMember());
+  }
+}
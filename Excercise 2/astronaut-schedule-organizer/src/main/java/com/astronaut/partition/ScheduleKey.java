@@ -0,0 +1,70 @@
+package com.astronaut.partition;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+// One crew member's schedule for one mission day. Crew member ids name a folder on disk, so
+// they are limited to letters, digits, '-' and '_', and are lower-cased: on a case-insensitive
+// file system "Alice" and "alice" would otherwise be two keys sharing one journal.
+public final class ScheduleKey implements Comparable<ScheduleKey> {
+  private static final Pattern CREW_MEMBER_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+  private final String crewMember;
+  private final LocalDate date;
+
+  public ScheduleKey(String crewMember, LocalDate date) {
+    if (crewMember == null || !CREW_MEMBER_ID.matcher(crewMember).matches()) {
+      throw new IllegalArgumentException("Invalid crew member id: " + crewMember);
+    }
+    if (date == null) {
+      throw new IllegalArgumentException("Date cannot be null");
+    }
+    this.crewMember = crewMember.toLowerCase(Locale.ROOT);
+    this.date = date;
+  }
+
+  // Whether a folder name is one a key would produce, which rules out folders not written by
+  // this store.
+  static boolean isCrewMemberFolder(String crewMember) {
+    return CREW_MEMBER_ID.matcher(crewMember).matches()
+        && crewMember.equals(crewMember.toLowerCase(Locale.ROOT));
+  }
+
+  public String getCrewMember() {
+    return crewMember;
+  }
+
+  public LocalDate getDate() {
+    return date;
+  }
+
+  @Override
+  public int compareTo(ScheduleKey other) {
+    int byDate = date.compareTo(other.date);
+    return byDate != 0 ? byDate : crewMember.compareTo(other.crewMember);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof ScheduleKey)) {
+      return false;
+    }
+    ScheduleKey key = (ScheduleKey) other;
+    return crewMember.equals(key.crewMember) && date.equals(key.date);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(crewMember, date);
+  }
+
+  @Override
+  public String toString() {
+    return crewMember + "@" + date;
+  }
+}
@@ -0,0 +1,154 @@
+package com.astronaut.patterns.behavioral.observer;
+
+import com.astronaut.utils.Logger;
+import com.astronaut.utils.MpscRingBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// Background half of TaskSubject's async mode. Each observer has its own bounded queue, and at
+// most one pool thread drains a given queue at a time, so every observer sees events in the
+// order they were published while a slow observer only delays itself.
+class AsyncObserverDispatcher {
+  private static final int DRAIN_LIMIT = 256;
+  private static final long BLOCKED_PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+  private static final long SHUTDOWN_POLL_MILLIS = 1;
+
+  private final ObserverDispatchConfig config;
+  private final ExecutorService executor;
+  private final Map<TaskObserver, ObserverQueue> queues;
+  private final AtomicLong droppedCount;
+  private final Logger logger;
+  private volatile boolean running;
+
+  AsyncObserverDispatcher(ObserverDispatchConfig config) {
+    this.config = config;
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.executor =
+        Executors.newFixedThreadPool(
+            config.getThreads(),
+            runnable -> {
+              Thread thread = new Thread(runnable, "observer-dispatch-" + threadNumber.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.queues = new ConcurrentHashMap<>();
+    this.droppedCount = new AtomicLong();
+    this.logger = Logger.getInstance();
+    this.running = true;
+  }
+
+  // Once closed, events run on the caller, after everything queued before them.
+  void dispatch(TaskObserver observer, Runnable event) {
+    if (!running) {
+      event.run();
+      return;
+    }
+    queues.computeIfAbsent(observer, key -> new ObserverQueue()).offer(event);
+  }
+
+  void removeObserver(TaskObserver observer) {
+    queues.remove(observer);
+  }
+
+  long getDroppedCount() {
+    return droppedCount.get();
+  }
+
+  // Stops accepting events, waits for every queue to drain, then stops the pool threads.
+  void close() {
+    running = false;
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getShutdownTimeoutMillis());
+    while (!allDrained() && System.nanoTime() < deadline) {
+      LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(SHUTDOWN_POLL_MILLIS));
+    }
+    executor.shutdown();
+    try {
+      executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private boolean allDrained() {
+    for (ObserverQueue queue : queues.values()) {
+      if (!queue.isIdle()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private final class ObserverQueue implements Runnable {
+    private final MpscRingBuffer<Runnable> buffer;
+    private final AtomicBoolean scheduled;
+
+    private ObserverQueue() {
+      this.buffer = new MpscRingBuffer<>(config.getQueueCapacity());
+      this.scheduled = new AtomicBoolean();
+    }
+
+    private void offer(Runnable event) {
+      if (!buffer.offer(event) && !waitForRoom(event)) {
+        droppedCount.incrementAndGet();
+        return;
+      }
+      schedule();
+    }
+
+    private boolean waitForRoom(Runnable event) {
+      if (config.getOverflowPolicy() == ObserverOverflowPolicy.DROP) {
+        return false;
+      }
+      long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getBlockTimeoutMillis());
+      while (!buffer.offer(event)) {
+        if (!running || System.nanoTime() >= deadline) {
+          return false;
+        }
+        schedule();
+        LockSupport.parkNanos(this, BLOCKED_PRODUCER_PARK_NANOS);
+      }
+      return true;
+    }
+
+    private void schedule() {
+      if (scheduled.compareAndSet(false, true)) {
+        try {
+          executor.execute(this);
+        } catch (RejectedExecutionException e) {
+          // Closing after the shutdown timeout; what is left is abandoned.
+          scheduled.set(false);
+        }
+      }
+    }
+
+    private boolean isIdle() {
+      return buffer.isEmpty() && !scheduled.get();
+    }
+
+    @Override
+    public void run() {
+      buffer.drain(this::deliver, DRAIN_LIMIT);
+      scheduled.set(false);
+      // An event published after the drain stopped would otherwise wait for the next one.
+      if (!buffer.isEmpty()) {
+        schedule();
+      }
+    }
+
+    private void deliver(Runnable event) {
+      try {
+        event.run();
+      } catch (RuntimeException e) {
+        logger.error("Observer failed: {}", e.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.astronaut.patterns.behavioral.observer;
+
+import com.astronaut.models.ScheduleChangeSet;
+import com.astronaut.models.Task;
+import com.astronaut.models.TaskConflict;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Folds the changes published while TaskSubject is coalescing into one net change per task id,
+// kept in the order each id was first touched. Not thread-safe; TaskSubject guards it.
+class ChangeSetCollector {
+  private enum Kind {
+    ADDED,
+    REMOVED,
+    UPDATED
+  }
+
+  private static final class Change {
+    private Kind kind;
+    private Task task;
+
+    private Change(Kind kind, Task task) {
+      this.kind = kind;
+      this.task = task;
+    }
+  }
+
+  private final Map<String, Change> changes;
+  private final List<TaskConflict> conflicts;
+  private long version;
+
+  ChangeSetCollector() {
+    this.changes = new LinkedHashMap<>();
+    this.conflicts = new ArrayList<>();
+  }
+
+  void added(Task task, long changeVersion) {
+    Change change = changes.get(task.getId());
+    if (change != null && change.kind == Kind.REMOVED) {
+      // Removed and added back under the same id: to anyone who saw the first state, a change.
+      change.kind = Kind.UPDATED;
+      change.task = task;
+    } else {
+      changes.put(task.getId(), new Change(Kind.ADDED, task));
+    }
+    version = Math.max(version, changeVersion);
+  }
+
+  void updated(Task task, long changeVersion) {
+    Change change = changes.get(task.getId());
+    if (change == null) {
+      changes.put(task.getId(), new Change(Kind.UPDATED, task));
+    } else {
+      change.task = task;
+    }
+    version = Math.max(version, changeVersion);
+  }
+
+  void removed(Task task, long changeVersion) {
+    Change change = changes.get(task.getId());
+    if (change == null) {
+      changes.put(task.getId(), new Change(Kind.REMOVED, task));
+    } else if (change.kind == Kind.ADDED) {
+      changes.remove(task.getId());
+    } else {
+      change.kind = Kind.REMOVED;
+      change.task = task;
+    }
+    version = Math.max(version, changeVersion);
+  }
+
+  void conflict(Task newTask, Task conflictingTask, long changeVersion) {
+    conflicts.add(new TaskConflict(newTask, conflictingTask));
+    version = Math.max(version, changeVersion);
+  }
+
+  boolean isEmpty() {
+    return changes.isEmpty() && conflicts.isEmpty();
+  }
+
+  // Returns the collected changes and starts over, or null when nothing net happened.
+  ScheduleChangeSet drain() {
+    if (isEmpty()) {
+      return null;
+    }
+    List<Task> added = new ArrayList<>();
+    List<Task> removed = new ArrayList<>();
+    List<Task> updated = new ArrayList<>();
+    for (Change change : changes.values()) {
+      switch (change.kind) {
+        case ADDED -> added.add(change.task);
+        case REMOVED -> removed.add(change.task);
+        case UPDATED -> updated.add(change.task);
+      }
+    }
+    ScheduleChangeSet changeSet = new ScheduleChangeSet(version, added, removed, updated, new ArrayList<>(conflicts));
+    changes.clear();
+    conflicts.clear();
+    return changeSet;
+  }
+}
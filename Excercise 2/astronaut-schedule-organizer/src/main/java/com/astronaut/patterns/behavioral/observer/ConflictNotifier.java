@@ -1,7 +1,9 @@
 package com.astronaut.patterns.behavioral.observer;
 
 import com.astronaut.models.Task;
+import com.astronaut.models.TaskReminder;
 import com.astronaut.utils.Logger;
+import java.util.List;
 
 public class ConflictNotifier implements TaskObserver {
   private final Logger logger;
@@ -27,19 +29,32 @@ public class ConflictNotifier implements TaskObserver {
 
   @Override
   public void onTaskAdded(Task task) {
-    logger.info("Task added: " + task.getDescription());
+    logger.info("Task added: {}", task.getDescription());
     System.out.println("✓ Task added successfully: " + task.getDescription());
   }
 
+  @Override
+  public void onTasksAdded(List<Task> tasks) {
+    logger.info("Batch of {} tasks added", tasks.size());
+    System.out.println("✓ " + tasks.size() + " tasks added successfully");
+  }
+
+  @Override
+  public void onTaskReminder(TaskReminder reminder) {
+    Task task = reminder.getTask();
+    logger.info("Reminder: {} starts at {}", task.getDescription(), task.getStartTime());
+    System.out.println("\n⏰ Reminder: " + task.getDescription() + " starts at " + task.getStartTime() + "\n");
+  }
+
   @Override
   public void onTaskRemoved(Task task) {
-    logger.info("Task removed: " + task.getDescription());
+    logger.info("Task removed: {}", task.getDescription());
     System.out.println("✓ Task removed successfully: " + task.getDescription());
   }
 
   @Override
   public void onTaskUpdated(Task task) {
-    logger.info("Task updated: " + task.getDescription());
+    logger.info("Task updated: {}", task.getDescription());
     System.out.println("✓ Task updated successfully: " + task.getDescription());
   }
 }
@@ -0,0 +1,68 @@
+package com.astronaut.patterns.behavioral.observer;
+
+public class ObserverDispatchConfig {
+  private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+  private static final long DEFAULT_BLOCK_TIMEOUT_MILLIS = 1000;
+  private static final int DEFAULT_THREADS = 2;
+  private static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+  private final int queueCapacity;
+  private final ObserverOverflowPolicy overflowPolicy;
+  private final long blockTimeoutMillis;
+  private final int threads;
+  private final long shutdownTimeoutMillis;
+
+  public ObserverDispatchConfig(
+      int queueCapacity,
+      ObserverOverflowPolicy overflowPolicy,
+      long blockTimeoutMillis,
+      int threads,
+      long shutdownTimeoutMillis) {
+    if (queueCapacity <= 0) {
+      throw new IllegalArgumentException("Queue capacity must be positive");
+    }
+    if (overflowPolicy == null) {
+      throw new IllegalArgumentException("Overflow policy cannot be null");
+    }
+    if (blockTimeoutMillis < 0 || shutdownTimeoutMillis < 0) {
+      throw new IllegalArgumentException("Timeouts cannot be negative");
+    }
+    if (threads <= 0) {
+      throw new IllegalArgumentException("Thread count must be positive");
+    }
+    this.queueCapacity = queueCapacity;
+    this.overflowPolicy = overflowPolicy;
+    this.blockTimeoutMillis = blockTimeoutMillis;
+    this.threads = threads;
+    this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+  }
+
+  public static ObserverDispatchConfig defaults() {
+    return new ObserverDispatchConfig(
+        DEFAULT_QUEUE_CAPACITY,
+        ObserverOverflowPolicy.BLOCK,
+        DEFAULT_BLOCK_TIMEOUT_MILLIS,
+        DEFAULT_THREADS,
+        DEFAULT_SHUTDOWN_TIMEOUT_MILLIS);
+  }
+
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  public ObserverOverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  public long getBlockTimeoutMillis() {
+    return blockTimeoutMillis;
+  }
+
+  public int getThreads() {
+    return threads;
+  }
+
+  public long getShutdownTimeoutMillis() {
+    return shutdownTimeoutMillis;
+  }
+}
@@ -0,0 +1,9 @@
+package com.astronaut.patterns.behavioral.observer;
+
+public enum ObserverOverflowPolicy {
+  // Drop the new event when the observer's queue is full.
+  DROP,
+  // Wait for room, up to the configured timeout, then drop. The wait is bounded because the
+  // notifying thread holds the schedule's write lock and the observer may need its read lock.
+  BLOCK
+}
@@ -0,0 +1,14 @@
+package com.astronaut.patterns.behavioral.observer;
+
+// The kinds of notification an observer can subscribe to. ADDED covers batch additions too.
+public enum TaskEventType {
+  ADDED,
+  REMOVED,
+  UPDATED,
+  CONFLICT,
+  REMINDER;
+
+  int mask() {
+    return 1 << ordinal();
+  }
+}
@@ -1,10 +1,45 @@
 package com.astronaut.patterns.behavioral.observer;
 
+import com.astronaut.models.ScheduleChangeSet;
 import com.astronaut.models.Task;
+import com.astronaut.models.TaskConflict;
+import com.astronaut.models.TaskReminder;
+import java.util.List;
 
 public interface TaskObserver {
   void onTaskConflict(Task newTask, Task conflictingTask);
   void onTaskAdded(Task task);
   void onTaskRemoved(Task task);
   void onTaskUpdated(Task task);
+
+  // Called once per committed batch import. Observers that only care about single tasks get
+  // one onTaskAdded per task.
+  default void onTasksAdded(List<Task> tasks) {
+    for (Task task : tasks) {
+      onTaskAdded(task);
+    }
+  }
+
+  // Called when a reminder set through ReminderScheduler comes due.
+  default void onTaskReminder(TaskReminder reminder) {}
+
+  // Called instead of the change callbacks above while TaskSubject coalesces changes. By default the set
+  // is replayed through them: removals, then additions, then updates, then conflicts.
+  default void onScheduleChanged(ScheduleChangeSet changes) {
+    for (Task task : changes.getRemoved()) {
+      onTaskRemoved(task);
+    }
+    List<Task> added = changes.getAdded();
+    if (added.size() == 1) {
+      onTaskAdded(added.get(0));
+    } else if (!added.isEmpty()) {
+      onTasksAdded(added);
+    }
+    for (Task task : changes.getUpdated()) {
+      onTaskUpdated(task);
+    }
+    for (TaskConflict conflict : changes.getConflicts()) {
+      onTaskConflict(conflict.getNewTask(), conflict.getConflictingTask());
+    }
+  }
 }
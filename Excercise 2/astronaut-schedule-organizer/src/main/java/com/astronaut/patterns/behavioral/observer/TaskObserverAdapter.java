@@ -0,0 +1,18 @@
+package com.astronaut.patterns.behavioral.observer;
+
+import com.astronaut.models.Task;
+
+// Ignores every event, so an observer subscribed to a few event types only overrides those.
+public abstract class TaskObserverAdapter implements TaskObserver {
+  @Override
+  public void onTaskConflict(Task newTask, Task conflictingTask) {}
+
+  @Override
+  public void onTaskAdded(Task task) {}
+
+  @Override
+  public void onTaskRemoved(Task task) {}
+
+  @Override
+  public void onTaskUpdated(Task task) {}
+}
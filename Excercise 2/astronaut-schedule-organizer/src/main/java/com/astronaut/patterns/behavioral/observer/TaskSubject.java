@@ -1,47 +1,437 @@
 package com.astronaut.patterns.behavioral.observer;
 
+import com.astronaut.models.ScheduleChangeSet;
 import com.astronaut.models.Task;
-import java.util.ArrayList;
+import com.astronaut.models.TaskReminder;
+import com.astronaut.utils.Logger;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
+// Observers are called synchronously by default: a notification returns once every observer has
+// handled it. In async mode each notification is queued per observer and delivered on a small
+// thread pool, in publish order for any one observer.
+//
+// While coalescing (inside a change set, or with a window set) notifications are folded into one
+// ScheduleChangeSet, published when the change set ends or the window closes. Notifications must
+// be published while holding the publish lock; coalesced sets are published under it as well, so
+// they never interleave with the changes that come after them.
+//
+// Observers live in an array that is replaced, never modified, when one subscribes or leaves, so
+// a notification iterates a stable snapshot without locking and registration may happen at any
+// time, even from inside an observer.
 public class TaskSubject {
-  private final List<TaskObserver> observers;
+  private static final int ALL_EVENTS = (1 << TaskEventType.values().length) - 1;
+  private static final Subscription[] NO_SUBSCRIPTIONS = new Subscription[0];
+
+  private static final class Subscription {
+    private final TaskObserver observer;
+    private final int eventMask;
+
+    private Subscription(TaskObserver observer, int eventMask) {
+      this.observer = observer;
+      this.eventMask = eventMask;
+    }
+  }
+
+  private final Object registryLock;
+  private volatile Subscription[] subscriptions;
+  private final Lock publishLock;
+  private final ChangeSetCollector pending;
+  private final Logger logger;
+  private volatile AsyncObserverDispatcher dispatcher;
+  private volatile long coalesceWindowMillis;
+  private ScheduledExecutorService flushTimer;
+  private boolean flushScheduled;
+  private int changeSetDepth;
+  private Thread shutdownHook;
 
   public TaskSubject() {
-    this.observers = new ArrayList<>();
+    this(new ReentrantLock());
+  }
+
+  public TaskSubject(Lock publishLock) {
+    if (publishLock == null) {
+      throw new IllegalArgumentException("Publish lock cannot be null");
+    }
+    this.registryLock = new Object();
+    this.subscriptions = NO_SUBSCRIPTIONS;
+    this.publishLock = publishLock;
+    this.pending = new ChangeSetCollector();
+    this.logger = Logger.getInstance();
   }
 
   public void addObserver(TaskObserver observer) {
-    if (observer != null && !observers.contains(observer)) {
-      observers.add(observer);
+    addObserver(observer, EnumSet.allOf(TaskEventType.class));
+  }
+
+  // Subscribes the observer to the given event types only; the other callbacks are never called.
+  // Adding an observer that is already subscribed replaces its event types.
+  public void addObserver(TaskObserver observer, Set<TaskEventType> eventTypes) {
+    if (observer == null) {
+      return;
+    }
+    if (eventTypes == null || eventTypes.isEmpty()) {
+      throw new IllegalArgumentException("Event types cannot be null or empty");
+    }
+    int eventMask = 0;
+    for (TaskEventType eventType : eventTypes) {
+      eventMask |= eventType.mask();
+    }
+    Subscription subscription = new Subscription(observer, eventMask);
+    synchronized (registryLock) {
+      Subscription[] current = subscriptions;
+      int index = indexOf(current, observer);
+      Subscription[] updated;
+      if (index >= 0) {
+        updated = current.clone();
+        updated[index] = subscription;
+      } else {
+        updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = subscription;
+      }
+      subscriptions = updated;
     }
   }
 
   public void removeObserver(TaskObserver observer) {
-    observers.remove(observer);
+    synchronized (registryLock) {
+      Subscription[] current = subscriptions;
+      int index = indexOf(current, observer);
+      if (index < 0) {
+        return;
+      }
+      Subscription[] updated = new Subscription[current.length - 1];
+      System.arraycopy(current, 0, updated, 0, index);
+      System.arraycopy(current, index + 1, updated, index, updated.length - index);
+      subscriptions = updated;
+    }
+    AsyncObserverDispatcher current = dispatcher;
+    if (current != null) {
+      current.removeObserver(observer);
+    }
+  }
+
+  public synchronized void enableAsync(ObserverDispatchConfig config) {
+    if (config == null) {
+      throw new IllegalArgumentException("Dispatch config cannot be null");
+    }
+    if (dispatcher != null) {
+      return;
+    }
+    dispatcher = new AsyncObserverDispatcher(config);
+    if (shutdownHook == null) {
+      shutdownHook = new Thread(this::disableAsync, "observer-dispatch-shutdown");
+      Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+  }
+
+  // Delivers everything already queued, then returns to synchronous dispatch. A notification
+  // published while this runs may reach an observer ahead of events still being drained. The
+  // shutdown hook is removed too, so it no longer keeps this subject reachable.
+  public synchronized void disableAsync() {
+    AsyncObserverDispatcher current = dispatcher;
+    if (current != null) {
+      dispatcher = null;
+      current.close();
+    }
+    if (shutdownHook != null && shutdownHook != Thread.currentThread()) {
+      try {
+        Runtime.getRuntime().removeShutdownHook(shutdownHook);
+      } catch (IllegalStateException e) {
+        // The JVM is already shutting down and runs the hook anyway.
+      }
+      shutdownHook = null;
+    }
+  }
+
+  public int getObserverCount() {
+    return subscriptions.length;
+  }
+
+  public boolean isAsync() {
+    return dispatcher != null;
+  }
+
+  public long getDroppedEventCount() {
+    AsyncObserverDispatcher current = dispatcher;
+    return current == null ? 0 : current.getDroppedCount();
+  }
+
+  // From now on, changes are collected and published at most once per window, which starts at
+  // the first change after the previous publish.
+  public void enableCoalescing(long windowMillis) {
+    if (windowMillis <= 0) {
+      throw new IllegalArgumentException("Coalescing window must be positive");
+    }
+    publishLock.lock();
+    try {
+      coalesceWindowMillis = windowMillis;
+      if (flushTimer == null) {
+        flushTimer =
+            Executors.newSingleThreadScheduledExecutor(
+                runnable -> {
+                  Thread thread = new Thread(runnable, "observer-coalesce");
+                  thread.setDaemon(true);
+                  return thread;
+                });
+      }
+    } finally {
+      publishLock.unlock();
+    }
+  }
+
+  // Publishes whatever is pending (unless a change set is still open) and goes back to
+  // publishing each change as it happens.
+  public void disableCoalescing() {
+    publishLock.lock();
+    try {
+      coalesceWindowMillis = 0;
+      if (flushTimer != null) {
+        flushTimer.shutdownNow();
+        flushTimer = null;
+        flushScheduled = false;
+      }
+      if (changeSetDepth == 0) {
+        publishPending();
+      }
+    } finally {
+      publishLock.unlock();
+    }
   }
 
-  public void notifyConflict(Task newTask, Task conflictingTask) {
-    for (TaskObserver observer : observers) {
-      observer.onTaskConflict(newTask, conflictingTask);
+  public boolean isCoalescing() {
+    return coalesceWindowMillis > 0;
+  }
+
+  // Everything published until the matching endChangeSet reaches observers as one change set.
+  // Change sets nest; only the outermost one publishes.
+  public void beginChangeSet() {
+    publishLock.lock();
+    try {
+      changeSetDepth++;
+    } finally {
+      publishLock.unlock();
+    }
+  }
+
+  public void endChangeSet() {
+    publishLock.lock();
+    try {
+      if (changeSetDepth == 0) {
+        throw new IllegalStateException("No change set is open");
+      }
+      changeSetDepth--;
+      // With a window set, the change set simply joins the window.
+      if (changeSetDepth == 0 && coalesceWindowMillis == 0) {
+        publishPending();
+      }
+    } finally {
+      publishLock.unlock();
     }
   }
 
-  public void notifyTaskAdded(Task task) {
-    for (TaskObserver observer : observers) {
-      observer.onTaskAdded(task);
+  public void notifyConflict(Task newTask, Task conflictingTask, long version) {
+    if (collecting()) {
+      pending.conflict(newTask, conflictingTask, version);
+      schedulePublish();
+      return;
+    }
+    AsyncObserverDispatcher current = dispatcher;
+    int eventMask = TaskEventType.CONFLICT.mask();
+    for (Subscription subscription : subscriptions) {
+      if ((subscription.eventMask & eventMask) == 0) {
+        continue;
+      }
+      TaskObserver observer = subscription.observer;
+      if (current == null) {
+        observer.onTaskConflict(newTask, conflictingTask);
+      } else {
+        current.dispatch(observer, () -> observer.onTaskConflict(newTask, conflictingTask));
+      }
+    }
+  }
+
+  public void notifyTaskAdded(Task task, long version) {
+    if (collecting()) {
+      pending.added(task, version);
+      schedulePublish();
+      return;
+    }
+    AsyncObserverDispatcher current = dispatcher;
+    int eventMask = TaskEventType.ADDED.mask();
+    for (Subscription subscription : subscriptions) {
+      if ((subscription.eventMask & eventMask) == 0) {
+        continue;
+      }
+      TaskObserver observer = subscription.observer;
+      if (current == null) {
+        observer.onTaskAdded(task);
+      } else {
+        current.dispatch(observer, () -> observer.onTaskAdded(task));
+      }
     }
   }
 
-  public void notifyTaskRemoved(Task task) {
-    for (TaskObserver observer : observers) {
-      observer.onTaskRemoved(task);
+  public void notifyTasksAdded(List<Task> tasks, long version) {
+    if (collecting()) {
+      for (Task task : tasks) {
+        pending.added(task, version);
+      }
+      schedulePublish();
+      return;
+    }
+    AsyncObserverDispatcher current = dispatcher;
+    int eventMask = TaskEventType.ADDED.mask();
+    for (Subscription subscription : subscriptions) {
+      if ((subscription.eventMask & eventMask) == 0) {
+        continue;
+      }
+      TaskObserver observer = subscription.observer;
+      if (current == null) {
+        observer.onTasksAdded(tasks);
+      } else {
+        current.dispatch(observer, () -> observer.onTasksAdded(tasks));
+      }
+    }
+  }
+
+  public void notifyTaskRemoved(Task task, long version) {
+    if (collecting()) {
+      pending.removed(task, version);
+      schedulePublish();
+      return;
+    }
+    AsyncObserverDispatcher current = dispatcher;
+    int eventMask = TaskEventType.REMOVED.mask();
+    for (Subscription subscription : subscriptions) {
+      if ((subscription.eventMask & eventMask) == 0) {
+        continue;
+      }
+      TaskObserver observer = subscription.observer;
+      if (current == null) {
+        observer.onTaskRemoved(task);
+      } else {
+        current.dispatch(observer, () -> observer.onTaskRemoved(task));
+      }
+    }
+  }
+
+  public void notifyTaskUpdated(Task task, long version) {
+    if (collecting()) {
+      pending.updated(task, version);
+      schedulePublish();
+      return;
+    }
+    AsyncObserverDispatcher current = dispatcher;
+    int eventMask = TaskEventType.UPDATED.mask();
+    for (Subscription subscription : subscriptions) {
+      if ((subscription.eventMask & eventMask) == 0) {
+        continue;
+      }
+      TaskObserver observer = subscription.observer;
+      if (current == null) {
+        observer.onTaskUpdated(task);
+      } else {
+        current.dispatch(observer, () -> observer.onTaskUpdated(task));
+      }
     }
   }
 
-  public void notifyTaskUpdated(Task task) {
-    for (TaskObserver observer : observers) {
-      observer.onTaskUpdated(task);
+  // Reminders are not schedule changes, so they are never coalesced.
+  public void notifyReminder(TaskReminder reminder) {
+    AsyncObserverDispatcher current = dispatcher;
+    int eventMask = TaskEventType.REMINDER.mask();
+    for (Subscription subscription : subscriptions) {
+      if ((subscription.eventMask & eventMask) == 0) {
+        continue;
+      }
+      TaskObserver observer = subscription.observer;
+      if (current == null) {
+        observer.onTaskReminder(reminder);
+      } else {
+        current.dispatch(observer, () -> observer.onTaskReminder(reminder));
+      }
+    }
+  }
+
+  // The helpers below expect the caller to hold the publish lock.
+
+  private boolean collecting() {
+    return changeSetDepth > 0 || coalesceWindowMillis > 0;
+  }
+
+  private void schedulePublish() {
+    if (coalesceWindowMillis == 0 || flushScheduled) {
+      return;
+    }
+    flushScheduled = true;
+    flushTimer.schedule(this::publishWindow, coalesceWindowMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private void publishWindow() {
+    publishLock.lock();
+    try {
+      flushScheduled = false;
+      // An open change set is published whole by a later window.
+      if (changeSetDepth > 0) {
+        schedulePublish();
+      } else {
+        publishPending();
+      }
+    } catch (RuntimeException e) {
+      // Nobody is waiting on the timer thread to hear about it.
+      logger.error("Observer failed: {}", e.getMessage());
+    } finally {
+      publishLock.unlock();
+    }
+  }
+
+  private void publishPending() {
+    ScheduleChangeSet changes = pending.drain();
+    if (changes == null) {
+      return;
+    }
+    AsyncObserverDispatcher current = dispatcher;
+    for (Subscription subscription : subscriptions) {
+      ScheduleChangeSet visible =
+          subscription.eventMask == ALL_EVENTS ? changes : onlySubscribed(changes, subscription.eventMask);
+      if (visible == null) {
+        continue;
+      }
+      TaskObserver observer = subscription.observer;
+      if (current == null) {
+        observer.onScheduleChanged(visible);
+      } else {
+        current.dispatch(observer, () -> observer.onScheduleChanged(visible));
+      }
+    }
+  }
+
+  // The part of the change set the subscription asked for, or null when that part is empty.
+  private static ScheduleChangeSet onlySubscribed(ScheduleChangeSet changes, int eventMask) {
+    ScheduleChangeSet visible =
+        new ScheduleChangeSet(
+            changes.getVersion(),
+            (eventMask & TaskEventType.ADDED.mask()) != 0 ? changes.getAdded() : List.of(),
+            (eventMask & TaskEventType.REMOVED.mask()) != 0 ? changes.getRemoved() : List.of(),
+            (eventMask & TaskEventType.UPDATED.mask()) != 0 ? changes.getUpdated() : List.of(),
+            (eventMask & TaskEventType.CONFLICT.mask()) != 0 ? changes.getConflicts() : List.of());
+    return visible.isEmpty() ? null : visible;
+  }
+
+  private static int indexOf(Subscription[] subscriptions, TaskObserver observer) {
+    for (int i = 0; i < subscriptions.length; i++) {
+      if (subscriptions[i].observer.equals(observer)) {
+        return i;
+      }
     }
+    return -1;
   }
 }
@@ -6,17 +6,23 @@ import java.util.Comparator;
 import java.util.List;
 
 public class PrioritySortStrategy implements SortStrategy {
+  private static final Comparator<Task> COMPARATOR =
+      Comparator.comparingInt((Task t) -> t.getPriority().getLevel())
+          .reversed()
+          .thenComparing(Task::getStartTime);
+
   @Override
   public List<Task> sort(List<Task> tasks) {
     List<Task> sortedTasks = new ArrayList<>(tasks);
-    sortedTasks
-        .sort(
-            Comparator.comparing((Task t) -> t.getPriority().getLevel())
-                .reversed()
-                .thenComparing(Task::getStartTime));
+    sortedTasks.sort(COMPARATOR);
     return sortedTasks;
   }
 
+  @Override
+  public Comparator<Task> getComparator() {
+    return COMPARATOR;
+  }
+
   @Override
   public String getStrategyName() {
     return "Priority (High to Low)";
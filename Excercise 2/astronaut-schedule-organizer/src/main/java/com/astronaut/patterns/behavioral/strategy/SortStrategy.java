@@ -1,9 +1,11 @@
 package com.astronaut.patterns.behavioral.strategy;
 
 import com.astronaut.models.Task;
+import java.util.Comparator;
 import java.util.List;
 
 public interface SortStrategy {
   List<Task> sort(List<Task> tasks);
+  Comparator<Task> getComparator();
   String getStrategyName();
 }
@@ -6,13 +6,20 @@ import java.util.Comparator;
 import java.util.List;
 
 public class StartTimeSortStrategy implements SortStrategy {
+  private static final Comparator<Task> COMPARATOR = Comparator.comparing(Task::getStartTime);
+
   @Override
   public List<Task> sort(List<Task> tasks) {
     List<Task> sortedTasks = new ArrayList<>(tasks);
-    sortedTasks.sort(Comparator.comparing(Task::getStartTime));
+    sortedTasks.sort(COMPARATOR);
     return sortedTasks;
   }
 
+  @Override
+  public Comparator<Task> getComparator() {
+    return COMPARATOR;
+  }
+
   @Override
   public String getStrategyName() {
     return "Start Time";
@@ -1,11 +1,8 @@
 package com.astronaut.patterns.creational.factory;
 
 import com.astronaut.exceptions.InvalidTimeException;
-import com.astronaut.models.Priority;
 import com.astronaut.models.Task;
 import com.astronaut.utils.Logger;
-import com.astronaut.utils.TimeValidator;
-import java.time.LocalTime;
 
 public class TaskFactory {
   private final TaskValidator validator;
@@ -18,16 +15,15 @@ public class TaskFactory {
 
   public Task createTask(String description, String startTimeStr, String endTimeStr, String priorityStr)
       throws InvalidTimeException {
-    logger.debug("Creating task: " + description);
+    logger.debug("Creating task: {}", description);
 
-    validator.validateTaskInput(description, startTimeStr, endTimeStr, priorityStr);
-
-    LocalTime startTime = TimeValidator.validateAndParseTime(startTimeStr);
-    LocalTime endTime = TimeValidator.validateAndParseTime(endTimeStr);
-    Priority priority = Priority.fromString(priorityStr);
+    ValidatedTaskInput input = validator.validateTaskInput(description, startTimeStr, endTimeStr, priorityStr);
+    return createTask(input);
+  }
 
-    Task task = new Task(description, startTime, endTime, priority);
-    logger.debug("Task created successfully with ID: " + task.getId());
+  public Task createTask(ValidatedTaskInput input) {
+    Task task = new Task(input.getDescription(), input.getStartTime(), input.getEndTime(), input.getPriority());
+    logger.debug("Task created successfully with ID: {}", task.getId());
     return task;
   }
 }
@@ -7,14 +7,16 @@ import com.astronaut.utils.TimeValidator;
 import java.time.LocalTime;
 
 public class TaskValidator {
-  public void validateTaskInput(String description, String startTimeStr, String endTimeStr, String priorityStr)
-      throws InvalidTimeException {
+  // Returns the parsed values so callers don't parse the same strings a second time.
+  public ValidatedTaskInput validateTaskInput(
+      String description, String startTimeStr, String endTimeStr, String priorityStr) throws InvalidTimeException {
     InputValidator.validateDescription(description);
 
     LocalTime startTime = TimeValidator.validateAndParseTime(startTimeStr);
     LocalTime endTime = TimeValidator.validateAndParseTime(endTimeStr);
     TimeValidator.validateTimeRange(startTime, endTime);
 
-    Priority.fromString(priorityStr);
+    Priority priority = Priority.fromString(priorityStr);
+    return new ValidatedTaskInput(description, startTime, endTime, priority);
   }
 }
@@ -0,0 +1,35 @@
+package com.astronaut.patterns.creational.factory;
+
+import com.astronaut.models.Priority;
+import java.time.LocalTime;
+
+// Fields of one task input after validation, parsed exactly once.
+public class ValidatedTaskInput {
+  private final String description;
+  private final LocalTime startTime;
+  private final LocalTime endTime;
+  private final Priority priority;
+
+  public ValidatedTaskInput(String description, LocalTime startTime, LocalTime endTime, Priority priority) {
+    this.description = description;
+    this.startTime = startTime;
+    this.endTime = endTime;
+    this.priority = priority;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public LocalTime getStartTime() {
+    return startTime;
+  }
+
+  public LocalTime getEndTime() {
+    return endTime;
+  }
+
+  public Priority getPriority() {
+    return priority;
+  }
+}
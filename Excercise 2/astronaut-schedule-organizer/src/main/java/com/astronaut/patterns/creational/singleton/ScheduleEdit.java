@@ -0,0 +1,7 @@
+package com.astronaut.patterns.creational.singleton;
+
+// A group of mutations for ScheduleManager.applyChanges.
+@FunctionalInterface
+public interface ScheduleEdit<E extends Exception> {
+  void apply(ScheduleManager schedule) throws E;
+}
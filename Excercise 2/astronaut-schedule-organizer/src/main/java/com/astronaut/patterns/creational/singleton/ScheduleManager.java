@@ -2,130 +2,965 @@ package com.astronaut.patterns.creational.singleton;
 
 import com.astronaut.exceptions.TaskConflictException;
 import com.astronaut.exceptions.TaskNotFoundException;
+import com.astronaut.index.ConflictDetectionMode;
+import com.astronaut.index.DescriptionIndex;
+import com.astronaut.index.IntervalTree;
+import com.astronaut.index.OccupancyBitmap;
+import com.astronaut.index.PriorityBuckets;
+import com.astronaut.index.SortedTaskList;
+import com.astronaut.index.SortedTaskView;
+import com.astronaut.models.BatchMode;
+import com.astronaut.models.BatchResult;
+import com.astronaut.models.BatchRowResult;
+import com.astronaut.models.BatchRowStatus;
+import com.astronaut.models.PreemptionResult;
 import com.astronaut.models.Priority;
+import com.astronaut.models.ScheduleSnapshot;
 import com.astronaut.models.Task;
+import com.astronaut.models.TaskAttachment;
+import com.astronaut.models.TaskRelocation;
+import com.astronaut.models.TaskReminder;
 import com.astronaut.models.TaskStatus;
+import com.astronaut.patterns.behavioral.observer.ObserverDispatchConfig;
+import com.astronaut.patterns.behavioral.observer.TaskEventType;
+import com.astronaut.patterns.behavioral.observer.TaskObserver;
 import com.astronaut.patterns.behavioral.observer.TaskSubject;
+import com.astronaut.patterns.behavioral.strategy.PrioritySortStrategy;
 import com.astronaut.patterns.behavioral.strategy.SortStrategy;
 import com.astronaut.patterns.behavioral.strategy.StartTimeSortStrategy;
+import com.astronaut.persistence.ScheduleJournal;
+import com.astronaut.store.ScheduleView;
 import com.astronaut.utils.Logger;
+import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-public class ScheduleManager {
-  private static ScheduleManager instance;
+// Thread-safe: queries share a read lock, and every mutation (including its conflict check and
+// observer notifications) runs under the write lock, so check-then-insert is atomic and
+// observers see changes in the order they were applied. Stored tasks are never mutated; an
+// update swaps in a replacement with the same id and bumps the schedule version. Every mutation
+// is handed to the journal before it is applied and synced after the lock is released; the
+// mutations of an applyChanges edit are synced together when the edit ends.
+// Metadata such as notes lives in per-task attachment slots keyed by id, so it follows a task
+// through updates without copying it.
+public class ScheduleManager implements ScheduleView {
+  private static volatile ScheduleManager instance;
+  private static final String ASYNC_OBSERVERS_PROPERTY = "astronaut.observers.async";
 
-  private final List<Task> tasks;
+  private static final class CachedSnapshot {
+    private final ScheduleSnapshot snapshot;
+    private final SortStrategy strategy;
+
+    private CachedSnapshot(ScheduleSnapshot snapshot, SortStrategy strategy) {
+      this.snapshot = snapshot;
+      this.strategy = strategy;
+    }
+  }
+
+  private final Map<String, Task> tasks;
+  private final DescriptionIndex descriptionIndex;
+  private final IntervalTree intervalIndex;
+  private final OccupancyBitmap occupancy;
+  private final PriorityBuckets priorityBuckets;
+  private final Map<String, SortedTaskView> sortedViews;
+  private final Map<String, Object[]> attachments;
   private final TaskSubject taskSubject;
   private final Logger logger;
-  private SortStrategy sortStrategy;
+  private final Lock readLock;
+  private final ReentrantReadWriteLock.WriteLock writeLock;
+  private volatile ScheduleJournal journal;
+  private volatile SortStrategy sortStrategy;
+  private volatile ConflictDetectionMode conflictDetectionMode;
+  private volatile long version;
+  private volatile CachedSnapshot cachedSnapshot;
 
-  private ScheduleManager() {
-    this.tasks = new ArrayList<>();
-    this.taskSubject = new TaskSubject();
+  private ScheduleManager(boolean asyncObserversFromProperty) {
+    this.tasks = new LinkedHashMap<>();
+    this.descriptionIndex = new DescriptionIndex();
+    this.intervalIndex = new IntervalTree();
+    this.occupancy = new OccupancyBitmap();
+    this.priorityBuckets = new PriorityBuckets();
+    this.sortedViews = new HashMap<>();
+    this.attachments = new HashMap<>();
+    // The priority buckets already are the priority-sorted view.
+    sortedViews.put(new PrioritySortStrategy().getStrategyName(), priorityBuckets);
+    this.conflictDetectionMode = ConflictDetectionMode.OCCUPANCY_BITMAP;
+    this.journal = ScheduleJournal.NONE;
     this.logger = Logger.getInstance();
+    ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    this.readLock = lock.readLock();
+    this.writeLock = lock.writeLock();
+    this.taskSubject = new TaskSubject(writeLock);
+    if (asyncObserversFromProperty && Boolean.getBoolean(ASYNC_OBSERVERS_PROPERTY)) {
+      taskSubject.enableAsync(ObserverDispatchConfig.defaults());
+    }
     this.sortStrategy = new StartTimeSortStrategy();
+    registerSortedView(sortStrategy);
     logger.info("ScheduleManager initialized");
   }
 
   public static ScheduleManager getInstance() {
-    if (instance == null) {
+    ScheduleManager result = instance;
+    if (result == null) {
       synchronized (ScheduleManager.class) {
-        if (instance == null) {
-          instance = new ScheduleManager();
+        result = instance;
+        if (result == null) {
+          result = new ScheduleManager(true);
+          instance = result;
         }
       }
     }
-    return instance;
+    return result;
+  }
+
+  // A separate schedule with its own tasks, indexes and lock, for stores that keep one schedule
+  // per crew member and day. getInstance() stays the application's own schedule. Observers are
+  // called synchronously regardless of astronaut.observers.async, so a store holding many of
+  // these does not start a dispatch pool for each; enableAsyncObservers still opts in.
+  public static ScheduleManager newInstance() {
+    return new ScheduleManager(false);
   }
 
+  // Each strategy gets a sorted view that is kept up to date from then on, so switching back and
+  // forth between strategies does not re-sort.
   public void setSortStrategy(SortStrategy strategy) {
-    this.sortStrategy = strategy;
-    logger.debug("Sort strategy changed to: " + strategy.getStrategyName());
+    if (strategy == null) {
+      throw new IllegalArgumentException("Sort strategy cannot be null");
+    }
+    writeLock.lock();
+    try {
+      registerSortedView(strategy);
+      this.sortStrategy = strategy;
+    } finally {
+      writeLock.unlock();
+    }
+    logger.debug("Sort strategy changed to: {}", strategy.getStrategyName());
+  }
+
+  public void setConflictDetectionMode(ConflictDetectionMode mode) {
+    if (mode == null) {
+      throw new IllegalArgumentException("Conflict detection mode cannot be null");
+    }
+    this.conflictDetectionMode = mode;
+    logger.debug("Conflict detection mode changed to: {}", mode.getDisplayName());
+  }
+
+  public ConflictDetectionMode getConflictDetectionMode() {
+    return conflictDetectionMode;
   }
 
   public void addTask(Task task) throws TaskConflictException {
     if (task == null) {
       throw new IllegalArgumentException("Task cannot be null");
     }
-    Optional<Task> conflictingTask = findConflictingTask(task);
-    if (conflictingTask.isPresent()) {
-      taskSubject.notifyConflict(task, conflictingTask.get());
-      throw new TaskConflictException("Task conflicts with existing task: " + conflictingTask.get().getDescription());
+    if (!task.getStartTime().isBefore(task.getEndTime())) {
+      throw new IllegalArgumentException("Task start time must be before end time");
+    }
+    writeLock.lock();
+    try {
+      Optional<Task> conflictingTask = findConflictingTask(task, null);
+      if (conflictingTask.isPresent()) {
+        taskSubject.notifyConflict(task, conflictingTask.get(), version);
+        throw new TaskConflictException("Task conflicts with existing task: " + conflictingTask.get().getDescription());
+      }
+      journal.taskAdded(task);
+      tasks.put(task.getId(), task);
+      descriptionIndex.insert(task);
+      indexTask(task);
+      version++;
+      taskSubject.notifyTaskAdded(task, version);
+    } finally {
+      writeLock.unlock();
+    }
+    syncJournal();
+    logger.info("Task added: {}", task.getDescription());
+  }
+
+  // Adds a whole batch under one write lock. Tasks are checked in start-time order against the
+  // existing schedule and against the batch tasks accepted before them, so a single sweep finds
+  // every conflict; inside the batch the earlier-starting task wins. In ALL_OR_NOTHING mode any
+  // failed row leaves the schedule untouched. Observers get one onTasksAdded for the batch.
+  public BatchResult addTasks(List<Task> batch, BatchMode mode) {
+    if (batch == null || mode == null) {
+      throw new IllegalArgumentException("Batch and batch mode cannot be null");
+    }
+    int size = batch.size();
+    BatchRowResult[] results = new BatchRowResult[size];
+    long[] startNanos = new long[size];
+    Integer[] byStartTime = new Integer[size];
+    for (int row = 0; row < size; row++) {
+      Task task = batch.get(row);
+      startNanos[row] = task == null ? -1 : task.getStartTime().toNanoOfDay();
+      byStartTime[row] = row;
+    }
+    Arrays.sort(byStartTime, Comparator.comparingLong(row -> startNanos[row]));
+
+    List<Task> added = new ArrayList<>();
+    writeLock.lock();
+    try {
+      boolean[] accepted = new boolean[size];
+      int failed = 0;
+      int lastAccepted = -1;
+      for (int row : byStartTime) {
+        Task task = batch.get(row);
+        String invalidReason = validateBatchTask(task);
+        if (invalidReason != null) {
+          results[row] = new BatchRowResult(row, BatchRowStatus.INVALID, task, invalidReason);
+          failed++;
+          continue;
+        }
+        // Accepted batch tasks are disjoint and visited by start time, so only the last one can
+        // still be running when this task starts.
+        if (lastAccepted >= 0 && task.getStartTime().isBefore(batch.get(lastAccepted).getEndTime())) {
+          results[row] =
+              new BatchRowResult(
+                  row,
+                  BatchRowStatus.CONFLICT,
+                  task,
+                  "Task conflicts with batch task: " + batch.get(lastAccepted).getDescription());
+          failed++;
+          continue;
+        }
+        Optional<Task> conflictingTask = findConflictingTask(task, null);
+        if (conflictingTask.isPresent()) {
+          results[row] =
+              new BatchRowResult(
+                  row,
+                  BatchRowStatus.CONFLICT,
+                  task,
+                  "Task conflicts with existing task: " + conflictingTask.get().getDescription());
+          failed++;
+          continue;
+        }
+        accepted[row] = true;
+        lastAccepted = row;
+      }
+
+      // Committing in start-time order hands the sorted views already-ordered runs to merge.
+      boolean commit = mode == BatchMode.BEST_EFFORT || failed == 0;
+      for (int row : byStartTime) {
+        if (!accepted[row]) {
+          continue;
+        }
+        Task task = batch.get(row);
+        if (commit) {
+          added.add(task);
+          results[row] = new BatchRowResult(row, BatchRowStatus.ADDED, task, null);
+        } else {
+          results[row] =
+              new BatchRowResult(
+                  row, BatchRowStatus.NOT_COMMITTED, task, "Batch not committed: " + failed + " rows failed");
+        }
+      }
+      if (!added.isEmpty()) {
+        journal.tasksAdded(added);
+        for (Task task : added) {
+          tasks.put(task.getId(), task);
+          descriptionIndex.insert(task);
+        }
+        indexTasks(added);
+        version++;
+        taskSubject.notifyTasksAdded(Collections.unmodifiableList(added), version);
+      }
+    } finally {
+      writeLock.unlock();
+    }
+    syncJournal();
+    logger.info("Batch added: {} of {} tasks", added.size(), size);
+    return new BatchResult(mode, Arrays.asList(results));
+  }
+
+  // Adds a task, pushing aside the pending lower-priority tasks it overlaps. Each displaced task
+  // keeps its length and moves to the free slot nearest its old start, highest priority first,
+  // so only the displaced tasks are touched; one with no free time left is removed and reported.
+  // Fails like addTask when an overlapping task is completed or not of lower priority. The whole
+  // change is journaled as one record before anything is applied, so it either happens
+  // completely or not at all, also across a crash. Observers get one change set.
+  public PreemptionResult addTaskWithPreemption(Task task) throws TaskConflictException {
+    if (task == null) {
+      throw new IllegalArgumentException("Task cannot be null");
+    }
+    if (!task.getStartTime().isBefore(task.getEndTime())) {
+      throw new IllegalArgumentException("Task start time must be before end time");
+    }
+    List<TaskRelocation> relocated = new ArrayList<>();
+    List<Task> unplaced = new ArrayList<>();
+    writeLock.lock();
+    try {
+      List<Task> displaced = intervalIndex.findOverlapping(task.getStartTime(), task.getEndTime());
+      for (Task existing : displaced) {
+        if (existing.getStatus() == TaskStatus.COMPLETED
+            || existing.getPriority().getLevel() >= task.getPriority().getLevel()) {
+          taskSubject.notifyConflict(task, existing, version);
+          throw new TaskConflictException("Task conflicts with existing task: " + existing.getDescription());
+        }
+      }
+      displaced.sort(
+          Comparator.comparing(Task::getPriority, Comparator.reverseOrder()).thenComparing(Task::getStartTime));
+      planRelocations(task, displaced, relocated, unplaced);
+      List<Task> moved = new ArrayList<>(relocated.size());
+      for (TaskRelocation relocation : relocated) {
+        moved.add(relocation.getRelocated());
+      }
+      journal.taskPreempted(task, moved, unplaced);
+
+      taskSubject.beginChangeSet();
+      try {
+        for (Task existing : displaced) {
+          tasks.remove(existing.getId());
+          descriptionIndex.remove(existing);
+          unindexTask(existing);
+        }
+        for (Task relocatedTask : moved) {
+          tasks.put(relocatedTask.getId(), relocatedTask);
+          descriptionIndex.insert(relocatedTask);
+          indexTask(relocatedTask);
+        }
+        for (Task dropped : unplaced) {
+          attachments.remove(dropped.getId());
+        }
+        tasks.put(task.getId(), task);
+        descriptionIndex.insert(task);
+        indexTask(task);
+        version++;
+        for (Task dropped : unplaced) {
+          taskSubject.notifyTaskRemoved(dropped, version);
+        }
+        for (Task relocatedTask : moved) {
+          taskSubject.notifyTaskUpdated(relocatedTask, version);
+        }
+        taskSubject.notifyTaskAdded(task, version);
+      } finally {
+        taskSubject.endChangeSet();
+      }
+    } finally {
+      writeLock.unlock();
+    }
+    syncJournal();
+    if (logger.isInfoEnabled()) {
+      logger.info(
+          "Task added with preemption: "
+              + task.getDescription()
+              + " ("
+              + relocated.size()
+              + " moved, "
+              + unplaced.size()
+              + " unplaced)");
     }
-    tasks.add(task);
-    taskSubject.notifyTaskAdded(task);
-    logger.info("Task added: " + task.getDescription());
+    return new PreemptionResult(task, relocated, unplaced);
   }
 
   public void removeTask(String description) throws TaskNotFoundException {
-    Optional<Task> taskToRemove = findTaskByDescription(description);
-    if (taskToRemove.isEmpty()) {
-      throw new TaskNotFoundException("Task not found: " + description);
+    writeLock.lock();
+    try {
+      Optional<Task> taskToRemove = findTaskByDescription(description);
+      if (taskToRemove.isEmpty()) {
+        throw new TaskNotFoundException("Task not found: " + description);
+      }
+      removeTask(taskToRemove.get());
+    } finally {
+      writeLock.unlock();
     }
-    tasks.remove(taskToRemove.get());
-    taskSubject.notifyTaskRemoved(taskToRemove.get());
-    logger.info("Task removed: " + description);
+    syncJournal();
+    logger.info("Task removed: {}", description);
+  }
+
+  public void removeTaskById(String id) throws TaskNotFoundException {
+    Task task;
+    writeLock.lock();
+    try {
+      task = requireTaskById(id);
+      removeTask(task);
+    } finally {
+      writeLock.unlock();
+    }
+    syncJournal();
+    logger.info("Task removed: {}", task.getDescription());
   }
 
   public void updateTask(String description, Task updatedTask)
       throws TaskNotFoundException, TaskConflictException {
-    Optional<Task> existingTask = findTaskByDescription(description);
-    if (existingTask.isEmpty()) {
-      throw new TaskNotFoundException("Task not found: " + description);
+    writeLock.lock();
+    try {
+      Optional<Task> existingTask = findTaskByDescription(description);
+      if (existingTask.isEmpty()) {
+        throw new TaskNotFoundException("Task not found: " + description);
+      }
+      updateTask(existingTask.get(), updatedTask);
+    } finally {
+      writeLock.unlock();
     }
+    syncJournal();
+    logger.info("Task updated: {}", description);
+  }
+
+  public void updateTaskById(String id, Task updatedTask) throws TaskNotFoundException, TaskConflictException {
+    writeLock.lock();
+    try {
+      updateTask(requireTaskById(id), updatedTask);
+    } finally {
+      writeLock.unlock();
+    }
+    syncJournal();
+    logger.info("Task updated: {}", updatedTask.getDescription());
+  }
 
-    Task original = existingTask.get();
-    for (Task task : tasks) {
-      if (!task.getId().equals(original.getId()) && task.conflictsWith(updatedTask)) {
-        throw new TaskConflictException("Updated task conflicts with: " + task.getDescription());
+  public void markTaskCompleted(String description) throws TaskNotFoundException {
+    writeLock.lock();
+    try {
+      Optional<Task> task = findTaskByDescription(description);
+      if (task.isEmpty()) {
+        throw new TaskNotFoundException("Task not found: " + description);
       }
+      markTaskCompleted(task.get());
+    } finally {
+      writeLock.unlock();
     }
+    syncJournal();
+    logger.info("Task marked as completed: {}", description);
+  }
 
-    original.setDescription(updatedTask.getDescription());
-    original.setStartTime(updatedTask.getStartTime());
-    original.setEndTime(updatedTask.getEndTime());
-    original.setPriority(updatedTask.getPriority());
+  public void markTaskCompletedById(String id) throws TaskNotFoundException {
+    Task task;
+    writeLock.lock();
+    try {
+      task = requireTaskById(id);
+      markTaskCompleted(task);
+    } finally {
+      writeLock.unlock();
+    }
+    syncJournal();
+    logger.info("Task marked as completed: {}", task.getDescription());
+  }
 
-    taskSubject.notifyTaskUpdated(original);
-    logger.info("Task updated: " + description);
+  // Runs several mutations as one step: no other thread's change lands in between, and observers
+  // get a single ScheduleChangeSet once the edit returns. Mutations made before the edit threw
+  // stay applied and are still published. The journal is synced once, after the edit.
+  public <E extends Exception> void applyChanges(ScheduleEdit<E> edit) throws E {
+    if (edit == null) {
+      throw new IllegalArgumentException("Edit cannot be null");
+    }
+    writeLock.lock();
+    try {
+      taskSubject.beginChangeSet();
+      try {
+        edit.apply(this);
+      } finally {
+        taskSubject.endChangeSet();
+      }
+    } finally {
+      writeLock.unlock();
+      syncJournal();
+    }
   }
 
-  public void markTaskCompleted(String description) throws TaskNotFoundException {
-    Optional<Task> task = findTaskByDescription(description);
-    if (task.isEmpty()) {
-      throw new TaskNotFoundException("Task not found: " + description);
+  // A mutator called from an applyChanges edit still holds the write lock here, so it leaves the
+  // sync to the edit instead of forcing the journal once per change.
+  private void syncJournal() {
+    if (!writeLock.isHeldByCurrentThread()) {
+      journal.sync();
+    }
+  }
+
+  // Removes every task without notifying observers.
+  public void clear() {
+    writeLock.lock();
+    try {
+      journal.cleared();
+      clearIndexes();
+      version++;
+    } finally {
+      writeLock.unlock();
+    }
+    syncJournal();
+    logger.info("Schedule cleared");
+  }
+
+  // Swaps the whole schedule for recovered tasks and attaches the journal that holds them, in one
+  // step so no mutation can slip in between. Observers are not notified: nothing changed from
+  // their point of view, the schedule was only reloaded.
+  public void restore(Collection<Task> restoredTasks, ScheduleJournal restoredJournal) {
+    if (restoredTasks == null || restoredJournal == null) {
+      throw new IllegalArgumentException("Restored tasks and journal cannot be null");
+    }
+    List<Task> byStartTime = new ArrayList<>(restoredTasks);
+    byStartTime.sort(Comparator.comparing(Task::getStartTime));
+    writeLock.lock();
+    try {
+      clearIndexes();
+      for (Task task : restoredTasks) {
+        tasks.put(task.getId(), task);
+        descriptionIndex.insert(task);
+      }
+      indexTasks(byStartTime);
+      version++;
+      this.journal = restoredJournal;
+    } finally {
+      writeLock.unlock();
+    }
+    logger.info("Schedule restored: {} tasks", byStartTime.size());
+  }
+
+  public void setJournal(ScheduleJournal journal) {
+    if (journal == null) {
+      throw new IllegalArgumentException("Journal cannot be null");
+    }
+    writeLock.lock();
+    try {
+      this.journal = journal;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  // Runs the reader against a read-only view of the tasks under the read lock, so it sees no
+  // mutation half applied and no journal record is written meanwhile.
+  public <T> T readTasks(Function<Collection<Task>, T> reader) {
+    readLock.lock();
+    try {
+      return reader.apply(Collections.unmodifiableCollection(tasks.values()));
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  // Sets or, with a null value, clears the task's attachment. Attachments are kept in memory
+  // only, and dropped with the task.
+  public <T> void setAttachment(String taskId, TaskAttachment<T> key, T value) throws TaskNotFoundException {
+    if (key == null) {
+      throw new IllegalArgumentException("Attachment key cannot be null");
+    }
+    Object checked = value == null ? null : key.getType().cast(value);
+    writeLock.lock();
+    try {
+      requireTaskById(taskId);
+      Object[] slots = attachments.get(taskId);
+      if (checked == null) {
+        if (slots != null && key.getSlot() < slots.length) {
+          slots[key.getSlot()] = null;
+        }
+        return;
+      }
+      if (slots == null || key.getSlot() >= slots.length) {
+        slots = slots == null ? new Object[key.getSlot() + 1] : Arrays.copyOf(slots, key.getSlot() + 1);
+        attachments.put(taskId, slots);
+      }
+      slots[key.getSlot()] = checked;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  public <T> Optional<T> getAttachment(String taskId, TaskAttachment<T> key) {
+    if (taskId == null || key == null) {
+      return Optional.empty();
+    }
+    readLock.lock();
+    try {
+      Object[] slots = attachments.get(taskId);
+      return slots == null || key.getSlot() >= slots.length
+          ? Optional.empty()
+          : Optional.ofNullable(key.getType().cast(slots[key.getSlot()]));
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  @Override
+  public Optional<Task> getTaskById(String id) {
+    if (id == null) {
+      return Optional.empty();
+    }
+    readLock.lock();
+    try {
+      return Optional.ofNullable(tasks.get(id));
+    } finally {
+      readLock.unlock();
     }
-    task.get().setStatus(TaskStatus.COMPLETED);
-    taskSubject.notifyTaskUpdated(task.get());
-    logger.info("Task marked as completed: " + description);
   }
 
+  @Override
   public List<Task> getAllTasks() {
-    return sortStrategy.sort(new ArrayList<>(tasks));
+    return getSnapshot().getTasks();
   }
 
+  // Readers share one sorted snapshot per version and sort strategy; only the first read after a
+  // change pays for building it, and that is a copy of an already-sorted view.
+  public ScheduleSnapshot getSnapshot() {
+    SortStrategy strategy = sortStrategy;
+    CachedSnapshot cached = cachedSnapshot;
+    if (cached != null && cached.strategy == strategy && cached.snapshot.getVersion() == version) {
+      return cached.snapshot;
+    }
+    List<Task> sorted;
+    long snapshotVersion;
+    readLock.lock();
+    try {
+      snapshotVersion = version;
+      SortedTaskView view = sortedViews.get(strategy.getStrategyName());
+      sorted = view != null ? view.copy() : strategy.sort(new ArrayList<>(tasks.values()));
+    } finally {
+      readLock.unlock();
+    }
+    ScheduleSnapshot snapshot = new ScheduleSnapshot(snapshotVersion, strategy.getStrategyName(), sorted);
+    cachedSnapshot = new CachedSnapshot(snapshot, strategy);
+    return snapshot;
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  @Override
   public List<Task> getTasksByPriority(Priority priority) {
-    return tasks.stream()
-        .filter(task -> task.getPriority() == priority)
-        .collect(Collectors.toList());
+    if (priority == null) {
+      return new ArrayList<>();
+    }
+    readLock.lock();
+    try {
+      return priorityBuckets.copy(priority);
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  @Override
+  public List<Task> getTasksOverlapping(LocalTime startTime, LocalTime endTime) {
+    if (startTime == null || endTime == null) {
+      throw new IllegalArgumentException("Start time and end time cannot be null");
+    }
+    ConflictDetectionMode mode = conflictDetectionMode;
+    readLock.lock();
+    try {
+      if (mode == ConflictDetectionMode.LINEAR_SCAN) {
+        return tasks.values().stream()
+            .filter(task -> task.getStartTime().isBefore(endTime) && startTime.isBefore(task.getEndTime()))
+            .sorted(Comparator.comparing(Task::getStartTime))
+            .collect(Collectors.toList());
+      }
+      if (mode == ConflictDetectionMode.OCCUPANCY_BITMAP && occupancy.isFree(startTime, endTime)) {
+        return new ArrayList<>();
+      }
+      return intervalIndex.findOverlapping(startTime, endTime);
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  @Override
+  public boolean isSlotFree(LocalTime startTime, LocalTime endTime) {
+    if (startTime == null || endTime == null) {
+      throw new IllegalArgumentException("Start time and end time cannot be null");
+    }
+    ConflictDetectionMode mode = conflictDetectionMode;
+    readLock.lock();
+    try {
+      if (mode == ConflictDetectionMode.LINEAR_SCAN) {
+        return tasks.values().stream()
+            .noneMatch(task -> task.getStartTime().isBefore(endTime) && startTime.isBefore(task.getEndTime()));
+      }
+      if (mode == ConflictDetectionMode.OCCUPANCY_BITMAP && occupancy.isFree(startTime, endTime)) {
+        return true;
+      }
+      return intervalIndex.findFirstOverlap(startTime, endTime, null).isEmpty();
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  public Optional<LocalTime> findNextFreeSlot(LocalTime notBefore, int durationMinutes) {
+    if (notBefore == null) {
+      throw new IllegalArgumentException("Start time cannot be null");
+    }
+    if (durationMinutes <= 0) {
+      throw new IllegalArgumentException("Duration must be positive");
+    }
+    int slotStart;
+    readLock.lock();
+    try {
+      // The last representable end time in HH:mm is 23:59, so a slot may not run past it.
+      slotStart =
+          occupancy.findFreeRun(
+              OccupancyBitmap.endMinute(notBefore), durationMinutes, OccupancyBitmap.MINUTES_PER_DAY - 1);
+    } finally {
+      readLock.unlock();
+    }
+    return slotStart < 0 ? Optional.empty() : Optional.of(OccupancyBitmap.toLocalTime(slotStart));
   }
 
-  public void addObserver(com.astronaut.patterns.behavioral.observer.TaskObserver observer) {
+  // Which minutes are taken right now, for planning without holding the lock.
+  public OccupancyBitmap copyOccupancy() {
+    readLock.lock();
+    try {
+      return new OccupancyBitmap(occupancy);
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  // Observers can come and go at any time, even while a change is being published.
+  public void addObserver(TaskObserver observer) {
     taskSubject.addObserver(observer);
   }
 
-  private Optional<Task> findConflictingTask(Task newTask) {
-    return tasks.stream().filter(existing -> existing.conflictsWith(newTask)).findFirst();
+  public void addObserver(TaskObserver observer, Set<TaskEventType> eventTypes) {
+    taskSubject.addObserver(observer, eventTypes);
   }
 
-  private Optional<Task> findTaskByDescription(String description) {
-    return tasks.stream().filter(task -> task.getDescription().equalsIgnoreCase(description.trim())).findFirst();
+  public void removeObserver(TaskObserver observer) {
+    taskSubject.removeObserver(observer);
+  }
+
+  // Runs observers on background threads, so a slow one no longer holds up mutations. Each
+  // observer still sees events in the order they happened.
+  public void enableAsyncObservers(ObserverDispatchConfig config) {
+    taskSubject.enableAsync(config);
+  }
+
+  // Delivers queued events, then goes back to calling observers on the mutating thread.
+  public void disableAsyncObservers() {
+    taskSubject.disableAsync();
+  }
+
+  public long getDroppedObserverEventCount() {
+    return taskSubject.getDroppedEventCount();
+  }
+
+  // Publishes a due reminder to observers, unless its task was removed or completed after the
+  // reminder was set. Returns whether it was published.
+  public boolean publishReminder(TaskReminder reminder) {
+    if (reminder == null) {
+      throw new IllegalArgumentException("Reminder cannot be null");
+    }
+    writeLock.lock();
+    try {
+      Task current = tasks.get(reminder.getTask().getId());
+      if (current == null || current.getStatus() == TaskStatus.COMPLETED) {
+        return false;
+      }
+      taskSubject.notifyReminder(reminder);
+      return true;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  // Observers get at most one ScheduleChangeSet per window instead of a callback per change.
+  public void enableChangeCoalescing(long windowMillis) {
+    taskSubject.enableCoalescing(windowMillis);
+  }
+
+  // Publishes what is pending, then goes back to a callback per change.
+  public void disableChangeCoalescing() {
+    taskSubject.disableCoalescing();
   }
 
+  @Override
   public int getTaskCount() {
-    return tasks.size();
+    readLock.lock();
+    try {
+      return tasks.size();
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  // The helpers below expect the caller to hold the write lock.
+
+  private Optional<Task> findConflictingTask(Task newTask, Task excluded) {
+    ConflictDetectionMode mode = conflictDetectionMode;
+    if (mode == ConflictDetectionMode.LINEAR_SCAN) {
+      return tasks.values().stream()
+          .filter(existing -> existing != excluded && existing.conflictsWith(newTask))
+          .findFirst();
+    }
+    if (mode == ConflictDetectionMode.OCCUPANCY_BITMAP
+        && occupancy.isFree(newTask.getStartTime(), newTask.getEndTime())) {
+      return Optional.empty();
+    }
+    return intervalIndex.findFirstOverlap(newTask.getStartTime(), newTask.getEndTime(), excluded);
+  }
+
+  // Works on a copy of the occupancy bitmap with the displaced tasks' minutes released and the
+  // new task's taken, so the schedule itself is untouched until every move is known.
+  private void planRelocations(
+      Task task, List<Task> displaced, List<TaskRelocation> relocated, List<Task> unplaced) {
+    OccupancyBitmap plan = new OccupancyBitmap(occupancy);
+    for (Task existing : displaced) {
+      plan.release(existing.getStartTime(), existing.getEndTime());
+    }
+    // Releasing can clear a minute that a staying task not aligned to the minute still touches.
+    Set<Task> leaving = Collections.newSetFromMap(new IdentityHashMap<>());
+    leaving.addAll(displaced);
+    for (Task existing : displaced) {
+      LocalTime from = OccupancyBitmap.toLocalTime(OccupancyBitmap.startMinute(existing.getStartTime()));
+      LocalTime to = OccupancyBitmap.toLocalTime(OccupancyBitmap.endMinute(existing.getEndTime()));
+      for (Task neighbour : intervalIndex.findOverlapping(from, to)) {
+        if (!leaving.contains(neighbour)) {
+          plan.occupy(neighbour.getStartTime(), neighbour.getEndTime());
+        }
+      }
+    }
+    plan.occupy(task.getStartTime(), task.getEndTime());
+
+    for (Task existing : displaced) {
+      long lengthNanos = existing.getEndTime().toNanoOfDay() - existing.getStartTime().toNanoOfDay();
+      int lengthMinutes = OccupancyBitmap.endMinute(LocalTime.ofNanoOfDay(lengthNanos));
+      // The last representable end time in HH:mm is 23:59, so a slot may not run past it.
+      int start =
+          plan.findNearestFreeRun(
+              OccupancyBitmap.startMinute(existing.getStartTime()),
+              lengthMinutes,
+              OccupancyBitmap.MINUTES_PER_DAY - 1);
+      if (start < 0) {
+        unplaced.add(existing);
+        continue;
+      }
+      plan.occupy(start, start + lengthMinutes);
+      LocalTime newStart = OccupancyBitmap.toLocalTime(start);
+      relocated.add(
+          new TaskRelocation(
+              existing,
+              new Task(
+                  existing.getId(),
+                  existing.getDescription(),
+                  newStart,
+                  newStart.plusNanos(lengthNanos),
+                  existing.getPriority(),
+                  existing.getStatus())));
+    }
+  }
+
+  private void registerSortedView(SortStrategy strategy) {
+    sortedViews.computeIfAbsent(
+        strategy.getStrategyName(), name -> new SortedTaskList(strategy.getComparator(), tasks.values()));
+  }
+
+  private void indexTask(Task task) {
+    intervalIndex.insert(task);
+    occupancy.occupy(task.getStartTime(), task.getEndTime());
+    for (SortedTaskView view : sortedViews.values()) {
+      view.insert(task);
+    }
+  }
+
+  private void indexTasks(List<Task> batch) {
+    for (Task task : batch) {
+      intervalIndex.insert(task);
+      occupancy.occupy(task.getStartTime(), task.getEndTime());
+    }
+    for (SortedTaskView view : sortedViews.values()) {
+      view.insertAll(batch);
+    }
+  }
+
+  private void clearIndexes() {
+    tasks.clear();
+    attachments.clear();
+    descriptionIndex.clear();
+    intervalIndex.clear();
+    occupancy.clear();
+    for (SortedTaskView view : sortedViews.values()) {
+      view.clear();
+    }
+  }
+
+  private void unindexTask(Task task) {
+    for (SortedTaskView view : sortedViews.values()) {
+      view.remove(task);
+    }
+    intervalIndex.remove(task);
+    occupancy.release(task.getStartTime(), task.getEndTime());
+    // Tasks that are not minute-aligned can share a boundary minute with the released task.
+    LocalTime from = OccupancyBitmap.toLocalTime(OccupancyBitmap.startMinute(task.getStartTime()));
+    LocalTime to = OccupancyBitmap.toLocalTime(OccupancyBitmap.endMinute(task.getEndTime()));
+    for (Task neighbour : intervalIndex.findOverlapping(from, to)) {
+      occupancy.occupy(neighbour.getStartTime(), neighbour.getEndTime());
+    }
+  }
+
+  private void removeTask(Task task) {
+    journal.taskRemoved(task);
+    tasks.remove(task.getId());
+    attachments.remove(task.getId());
+    descriptionIndex.remove(task);
+    unindexTask(task);
+    version++;
+    taskSubject.notifyTaskRemoved(task, version);
+  }
+
+  private void updateTask(Task original, Task updatedTask) throws TaskConflictException {
+    Optional<Task> conflictingTask = findConflictingTask(updatedTask, original);
+    if (conflictingTask.isPresent()) {
+      throw new TaskConflictException("Updated task conflicts with: " + conflictingTask.get().getDescription());
+    }
+
+    Task replacement =
+        new Task(
+            original.getId(),
+            updatedTask.getDescription(),
+            updatedTask.getStartTime(),
+            updatedTask.getEndTime(),
+            updatedTask.getPriority(),
+            original.getStatus());
+    replaceTask(original, replacement);
+  }
+
+  private void markTaskCompleted(Task task) {
+    Task replacement =
+        new Task(
+            task.getId(),
+            task.getDescription(),
+            task.getStartTime(),
+            task.getEndTime(),
+            task.getPriority(),
+            TaskStatus.COMPLETED);
+    replaceTask(task, replacement);
+  }
+
+  private void replaceTask(Task original, Task replacement) {
+    journal.taskReplaced(replacement);
+    unindexTask(original);
+    tasks.put(replacement.getId(), replacement);
+    descriptionIndex.replace(original, replacement);
+    indexTask(replacement);
+    version++;
+    taskSubject.notifyTaskUpdated(replacement, version);
+  }
+
+  private static String validateBatchTask(Task task) {
+    if (task == null) {
+      return "Task cannot be null";
+    }
+    if (!task.getStartTime().isBefore(task.getEndTime())) {
+      return "Task start time must be before end time";
+    }
+    return null;
+  }
+
+  private Task requireTaskById(String id) throws TaskNotFoundException {
+    Task task = id == null ? null : tasks.get(id);
+    if (task == null) {
+      throw new TaskNotFoundException("Task not found with ID: " + id);
+    }
+    return task;
+  }
+
+  private Optional<Task> findTaskByDescription(String description) {
+    return descriptionIndex.findFirst(description.trim());
   }
 }
@@ -6,7 +6,11 @@ public class NotesDecorator extends TaskDecorator {
   private final String notes;
 
   public NotesDecorator(Task task, String notes) {
-    super(task);
+    this(new TaskDecorator(task), notes);
+  }
+
+  public NotesDecorator(TaskDecorator view, String notes) {
+    super(view);
     this.notes = notes;
   }
 
@@ -16,6 +20,6 @@ public class NotesDecorator extends TaskDecorator {
 
   @Override
   public String toString() {
-    return decoratedTask.toString() + String.format(" [Notes: %s]", notes);
+    return super.toString() + String.format(" [Notes: %s]", notes);
   }
 }
@@ -7,17 +7,21 @@ public class ReminderDecorator extends TaskDecorator {
   private final int minutesBefore;
 
   public ReminderDecorator(Task task, int minutesBefore) {
-    super(task);
+    this(new TaskDecorator(task), minutesBefore);
+  }
+
+  public ReminderDecorator(TaskDecorator view, int minutesBefore) {
+    super(view);
     this.minutesBefore = minutesBefore;
   }
 
   public LocalTime getReminderTime() {
-    return decoratedTask.getStartTime().minusMinutes(minutesBefore);
+    return getTask().getStartTime().minusMinutes(minutesBefore);
   }
 
   @Override
   public String toString() {
-    return decoratedTask.toString()
+    return super.toString()
         + String.format(" [Reminder: %d min before at %s]", minutesBefore, getReminderTime());
   }
 }
@@ -1,18 +1,36 @@
 package com.astronaut.patterns.structural.decorator;
 
-import com.astronaut.models.Priority;
 import com.astronaut.models.Task;
-import com.astronaut.models.TaskStatus;
-import java.time.LocalTime;
 
-public abstract class TaskDecorator extends Task {
-  protected Task decoratedTask;
+// A display view of a stored task. Views wrap the task instead of copying it, and each decorator
+// stacks on another view to add one piece of metadata, which itself is stored as a
+// ScheduleManager attachment. A plain TaskDecorator shows the task as it is.
+public class TaskDecorator {
+  private final Task task;
+  private final TaskDecorator decoratedView;
 
   public TaskDecorator(Task task) {
-    super(task.getDescription(), task.getStartTime(), task.getEndTime(), task.getPriority());
-    this.decoratedTask = task;
+    if (task == null) {
+      throw new IllegalArgumentException("Task cannot be null");
+    }
+    this.task = task;
+    this.decoratedView = null;
+  }
+
+  protected TaskDecorator(TaskDecorator view) {
+    if (view == null) {
+      throw new IllegalArgumentException("Task view cannot be null");
+    }
+    this.task = view.getTask();
+    this.decoratedView = view;
+  }
+
+  public Task getTask() {
+    return task;
   }
 
   @Override
-  public abstract String toString();
+  public String toString() {
+    return decoratedView == null ? task.toString() : decoratedView.toString();
+  }
 }
@@ -0,0 +1,11 @@
+package com.astronaut.persistence;
+
+public enum FsyncPolicy {
+  // fsync before a mutation returns; mutations committing at the same time share one fsync.
+  EVERY_COMMIT,
+  // Hand records to the OS on commit and fsync on a timer, so a crash of the machine can lose
+  // up to one interval of changes.
+  INTERVAL,
+  // Hand records to the OS on commit and leave flushing to it.
+  NEVER
+}
@@ -0,0 +1,65 @@
+package com.astronaut.persistence;
+
+public class PersistenceConfig {
+  private static final String FSYNC_PROPERTY = "astronaut.data.fsync";
+  private static final String STARTUP_TARGET_PROPERTY = "astronaut.data.startupTargetMs";
+  private static final long DEFAULT_FSYNC_INTERVAL_MILLIS = 1000;
+  private static final int DEFAULT_SNAPSHOT_EVERY_RECORDS = 10_000;
+  private static final long DEFAULT_STARTUP_TARGET_MILLIS = 1000;
+
+  private final FsyncPolicy fsyncPolicy;
+  private final long fsyncIntervalMillis;
+  private final int snapshotEveryRecords;
+  private final long startupTargetMillis;
+
+  // snapshotEveryRecords <= 0 turns automatic snapshots off; snapshot() can still be called.
+  public PersistenceConfig(
+      FsyncPolicy fsyncPolicy, long fsyncIntervalMillis, int snapshotEveryRecords, long startupTargetMillis) {
+    if (fsyncPolicy == null) {
+      throw new IllegalArgumentException("Fsync policy cannot be null");
+    }
+    if (fsyncIntervalMillis <= 0) {
+      throw new IllegalArgumentException("Fsync interval must be positive");
+    }
+    if (startupTargetMillis <= 0) {
+      throw new IllegalArgumentException("Startup target must be positive");
+    }
+    this.fsyncPolicy = fsyncPolicy;
+    this.fsyncIntervalMillis = fsyncIntervalMillis;
+    this.snapshotEveryRecords = snapshotEveryRecords;
+    this.startupTargetMillis = startupTargetMillis;
+  }
+
+  public static PersistenceConfig defaults() {
+    return new PersistenceConfig(
+        FsyncPolicy.EVERY_COMMIT,
+        DEFAULT_FSYNC_INTERVAL_MILLIS,
+        DEFAULT_SNAPSHOT_EVERY_RECORDS,
+        DEFAULT_STARTUP_TARGET_MILLIS);
+  }
+
+  public static PersistenceConfig fromSystemProperties() {
+    String policy = System.getProperty(FSYNC_PROPERTY);
+    return new PersistenceConfig(
+        policy == null ? FsyncPolicy.EVERY_COMMIT : FsyncPolicy.valueOf(policy.trim().toUpperCase()),
+        DEFAULT_FSYNC_INTERVAL_MILLIS,
+        DEFAULT_SNAPSHOT_EVERY_RECORDS,
+        Long.getLong(STARTUP_TARGET_PROPERTY, DEFAULT_STARTUP_TARGET_MILLIS));
+  }
+
+  public FsyncPolicy getFsyncPolicy() {
+    return fsyncPolicy;
+  }
+
+  public long getFsyncIntervalMillis() {
+    return fsyncIntervalMillis;
+  }
+
+  public int getSnapshotEveryRecords() {
+    return snapshotEveryRecords;
+  }
+
+  public long getStartupTargetMillis() {
+    return startupTargetMillis;
+  }
+}
@@ -0,0 +1,47 @@
+package com.astronaut.persistence;
+
+public class RecoveryResult {
+  private final int tasksRestored;
+  private final long snapshotSequence;
+  private final int recordsReplayed;
+  private final long elapsedNanos;
+  private final long targetMillis;
+
+  public RecoveryResult(
+      int tasksRestored, long snapshotSequence, int recordsReplayed, long elapsedNanos, long targetMillis) {
+    this.tasksRestored = tasksRestored;
+    this.snapshotSequence = snapshotSequence;
+    this.recordsReplayed = recordsReplayed;
+    this.elapsedNanos = elapsedNanos;
+    this.targetMillis = targetMillis;
+  }
+
+  public int getTasksRestored() {
+    return tasksRestored;
+  }
+
+  // Journal position the snapshot covered, or 0 when recovery started without one.
+  public long getSnapshotSequence() {
+    return snapshotSequence;
+  }
+
+  public int getRecordsReplayed() {
+    return recordsReplayed;
+  }
+
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  public long getElapsedMillis() {
+    return elapsedNanos / 1_000_000;
+  }
+
+  public long getTargetMillis() {
+    return targetMillis;
+  }
+
+  public boolean isWithinTarget() {
+    return getElapsedMillis() <= targetMillis;
+  }
+}
@@ -0,0 +1,44 @@
+package com.astronaut.persistence;
+
+import com.astronaut.models.Task;
+import java.util.List;
+
+// ScheduleManager reports every mutation here under its write lock, before applying it, so the
+// journal sees mutations in the order they happen. A journal that cannot record a mutation
+// throws and the mutation is not applied. sync() is called after the lock is released and
+// returns once everything recorded so far is as durable as the journal promises.
+public interface ScheduleJournal {
+  ScheduleJournal NONE =
+      new ScheduleJournal() {
+        @Override
+        public void taskAdded(Task task) {}
+
+        @Override
+        public void tasksAdded(List<Task> tasks) {}
+
+        @Override
+        public void taskRemoved(Task task) {}
+
+        @Override
+        public void taskReplaced(Task replacement) {}
+
+        @Override
+        public void taskPreempted(Task task, List<Task> relocated, List<Task> removed) {}
+
+        @Override
+        public void cleared() {}
+
+        @Override
+        public void sync() {}
+      };
+
+  void taskAdded(Task task);
+  void tasksAdded(List<Task> tasks);
+  void taskRemoved(Task task);
+  void taskReplaced(Task replacement);
+  // One record for a whole preemption: the task, the displaced tasks at their new times and the
+  // displaced tasks that were dropped, so it is applied completely or not at all.
+  void taskPreempted(Task task, List<Task> relocated, List<Task> removed);
+  void cleared();
+  void sync();
+}
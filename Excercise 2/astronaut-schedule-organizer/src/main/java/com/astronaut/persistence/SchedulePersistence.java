@@ -0,0 +1,328 @@
+package com.astronaut.persistence;
+
+import com.astronaut.models.Task;
+import com.astronaut.patterns.creational.singleton.ScheduleManager;
+import com.astronaut.utils.Logger;
+import com.astronaut.utils.TaskIds;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Keeps a ScheduleManager on disk: every mutation is appended to the write-ahead log, a full
+// snapshot is written every so many records, and open() rebuilds the schedule from the latest
+// snapshot plus the journal written after it.
+public class SchedulePersistence implements ScheduleJournal, Closeable {
+  private final Path directory;
+  private final PersistenceConfig config;
+  private final ScheduleManager manager;
+  private final WriteAheadLog log;
+  private final ScheduledExecutorService background;
+  private final Object snapshotLock;
+  private final AtomicLong recordsSinceSnapshot;
+  private final AtomicBoolean snapshotPending;
+  private final AtomicLong idHighWaterMark;
+  private final Logger logger;
+  private RecoveryResult recoveryResult;
+  private volatile boolean closed;
+
+  private SchedulePersistence(
+      Path directory, PersistenceConfig config, ScheduleManager manager, WriteAheadLog log, long idHighWaterMark) {
+    this.directory = directory;
+    this.config = config;
+    this.manager = manager;
+    this.log = log;
+    this.background =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "schedule-persistence");
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.snapshotLock = new Object();
+    this.recordsSinceSnapshot = new AtomicLong();
+    this.snapshotPending = new AtomicBoolean();
+    this.idHighWaterMark = new AtomicLong(idHighWaterMark);
+    this.logger = Logger.getInstance();
+  }
+
+  // Loads the schedule stored in the directory into the manager, replacing whatever it held, and
+  // journals the manager's mutations from then on.
+  public static SchedulePersistence open(Path directory, PersistenceConfig config, ScheduleManager manager)
+      throws IOException {
+    if (directory == null || config == null || manager == null) {
+      throw new IllegalArgumentException("Directory, config and schedule manager cannot be null");
+    }
+    long startNanos = System.nanoTime();
+    Files.createDirectories(directory);
+    Map<String, Task> tasks = new LinkedHashMap<>();
+    AtomicLong idHighWaterMark = new AtomicLong(-1);
+    SnapshotFile.Contents snapshot = SnapshotFile.read(directory);
+    long snapshotSequence = 0;
+    if (snapshot != null) {
+      snapshotSequence = snapshot.getSequence();
+      if (snapshot.getIdHighWaterMark() >= 0) {
+        TaskIds.observe(Long.toString(snapshot.getIdHighWaterMark()));
+        idHighWaterMark.set(snapshot.getIdHighWaterMark());
+      }
+      for (Task task : snapshot.getTasks()) {
+        restore(tasks, idHighWaterMark, task);
+      }
+    }
+    long lastSequence =
+        WriteAheadLog.replay(
+            directory, snapshotSequence, (sequence, type, payload) -> apply(tasks, idHighWaterMark, type, payload));
+
+    SchedulePersistence persistence =
+        new SchedulePersistence(
+            directory, config, manager, WriteAheadLog.open(directory, lastSequence), idHighWaterMark.get());
+    manager.restore(tasks.values(), persistence);
+    long recordsReplayed = lastSequence - snapshotSequence;
+    persistence.recoveryResult =
+        new RecoveryResult(
+            tasks.size(),
+            snapshotSequence,
+            (int) recordsReplayed,
+            System.nanoTime() - startNanos,
+            config.getStartupTargetMillis());
+    persistence.start(recordsReplayed);
+    return persistence;
+  }
+
+  public RecoveryResult getRecoveryResult() {
+    return recoveryResult;
+  }
+
+  public Path getDirectory() {
+    return directory;
+  }
+
+  // Writes a snapshot of the current schedule and deletes the journal segments it covers.
+  public void snapshot() throws IOException {
+    synchronized (snapshotLock) {
+      // Under the manager's read lock no mutation is being journaled, so the tasks match the
+      // journal's last sequence exactly.
+      SnapshotFile.Contents contents =
+          manager.readTasks(
+              current -> {
+                recordsSinceSnapshot.set(0);
+                return new SnapshotFile.Contents(
+                    log.getLastSequence(), idHighWaterMark.get(), new ArrayList<>(current));
+              });
+      SnapshotFile.write(directory, contents.getSequence(), contents.getIdHighWaterMark(), contents.getTasks());
+      log.rotate();
+      log.deleteSegmentsCoveredBy(contents.getSequence());
+      logger.info(
+          "Schedule snapshot written: {} tasks up to journal sequence {}",
+          contents.getTasks().size(),
+          contents.getSequence());
+    }
+  }
+
+  @Override
+  public void taskAdded(Task task) {
+    noteId(task.getId());
+    append(WriteAheadLog.ADD, 1, out -> TaskCodec.write(out, task));
+  }
+
+  @Override
+  public void tasksAdded(List<Task> tasks) {
+    for (Task task : tasks) {
+      noteId(task.getId());
+    }
+    append(
+        WriteAheadLog.ADD_BATCH,
+        tasks.size(),
+        out -> {
+          out.writeInt(tasks.size());
+          for (Task task : tasks) {
+            TaskCodec.write(out, task);
+          }
+        });
+  }
+
+  @Override
+  public void taskRemoved(Task task) {
+    append(WriteAheadLog.REMOVE, 1, out -> out.writeUTF(task.getId()));
+  }
+
+  @Override
+  public void taskReplaced(Task replacement) {
+    append(WriteAheadLog.REPLACE, 1, out -> TaskCodec.write(out, replacement));
+  }
+
+  @Override
+  public void taskPreempted(Task task, List<Task> relocated, List<Task> removed) {
+    noteId(task.getId());
+    append(
+        WriteAheadLog.PREEMPT,
+        1 + relocated.size() + removed.size(),
+        out -> {
+          out.writeInt(removed.size());
+          for (Task dropped : removed) {
+            out.writeUTF(dropped.getId());
+          }
+          out.writeInt(relocated.size());
+          for (Task moved : relocated) {
+            TaskCodec.write(out, moved);
+          }
+          TaskCodec.write(out, task);
+        });
+  }
+
+  @Override
+  public void cleared() {
+    append(WriteAheadLog.CLEAR, 1, out -> {});
+  }
+
+  @Override
+  public void sync() {
+    try {
+      log.sync(config.getFsyncPolicy() == FsyncPolicy.EVERY_COMMIT);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to sync schedule journal", e);
+    }
+  }
+
+  // Detaches from the manager and flushes the journal to disk. Later changes are not saved.
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    manager.setJournal(ScheduleJournal.NONE);
+    background.shutdown();
+    try {
+      background.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    log.close();
+  }
+
+  private void start(long recordsReplayed) {
+    RecoveryResult result = recoveryResult;
+    logger.info("Schedule recovered: {} tasks in {} ms", result.getTasksRestored(), result.getElapsedMillis());
+    if (!result.isWithinTarget()) {
+      logger.warn(
+          "Schedule recovery took {} ms, over the {} ms target",
+          result.getElapsedMillis(),
+          result.getTargetMillis());
+    }
+    if (config.getFsyncPolicy() == FsyncPolicy.INTERVAL) {
+      long interval = config.getFsyncIntervalMillis();
+      background.scheduleWithFixedDelay(this::intervalSync, interval, interval, TimeUnit.MILLISECONDS);
+    }
+    // The replayed tail counts towards the next snapshot, so a long tail is folded in soon.
+    recordsSinceSnapshot.set(recordsReplayed);
+    maybeScheduleSnapshot();
+  }
+
+  private void append(byte type, long weight, WriteAheadLog.PayloadWriter payload) {
+    if (closed) {
+      throw new IllegalStateException("Schedule persistence is closed");
+    }
+    try {
+      log.append(type, payload);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to journal schedule change", e);
+    }
+    recordsSinceSnapshot.addAndGet(weight);
+    maybeScheduleSnapshot();
+  }
+
+  private void maybeScheduleSnapshot() {
+    int threshold = config.getSnapshotEveryRecords();
+    if (threshold > 0
+        && recordsSinceSnapshot.get() >= threshold
+        && !closed
+        && snapshotPending.compareAndSet(false, true)) {
+      try {
+        background.execute(this::backgroundSnapshot);
+      } catch (RejectedExecutionException e) {
+        // Closing concurrently; the journal still holds every record.
+        snapshotPending.set(false);
+      }
+    }
+  }
+
+  private void backgroundSnapshot() {
+    try {
+      snapshot();
+    } catch (IOException | RuntimeException e) {
+      logger.error("Failed to write schedule snapshot: {}", e.getMessage());
+    } finally {
+      snapshotPending.set(false);
+    }
+  }
+
+  private void intervalSync() {
+    try {
+      log.sync(true);
+    } catch (IOException e) {
+      logger.error("Failed to sync schedule journal: {}", e.getMessage());
+    }
+  }
+
+  // Ids of removed tasks survive only until a snapshot replaces the journal segments holding
+  // them, so each snapshot keeps the largest numeric id this store has journaled or recovered.
+  private void noteId(String id) {
+    raiseIdHighWaterMark(idHighWaterMark, id);
+  }
+
+  private static void raiseIdHighWaterMark(AtomicLong idHighWaterMark, String id) {
+    long value = TaskIds.parseNumericId(id);
+    if (value >= 0) {
+      idHighWaterMark.accumulateAndGet(value, Math::max);
+    }
+  }
+
+  // Every id seen during recovery is reported to the id generator, and so is the snapshot's
+  // high-water mark, which stands in for removed tasks whose records are gone. A clock wound
+  // back between runs therefore cannot reissue an id.
+  private static void restore(Map<String, Task> tasks, AtomicLong idHighWaterMark, Task task) {
+    TaskIds.observe(task.getId());
+    raiseIdHighWaterMark(idHighWaterMark, task.getId());
+    tasks.put(task.getId(), task);
+  }
+
+  private static void apply(Map<String, Task> tasks, AtomicLong idHighWaterMark, byte type, DataInput payload)
+      throws IOException {
+    switch (type) {
+      case WriteAheadLog.ADD, WriteAheadLog.REPLACE -> restore(tasks, idHighWaterMark, TaskCodec.read(payload));
+      case WriteAheadLog.ADD_BATCH -> {
+        int count = payload.readInt();
+        for (int i = 0; i < count; i++) {
+          restore(tasks, idHighWaterMark, TaskCodec.read(payload));
+        }
+      }
+      case WriteAheadLog.REMOVE -> tasks.remove(payload.readUTF());
+      case WriteAheadLog.PREEMPT -> {
+        int removed = payload.readInt();
+        for (int i = 0; i < removed; i++) {
+          tasks.remove(payload.readUTF());
+        }
+        int relocated = payload.readInt();
+        for (int i = 0; i < relocated; i++) {
+          restore(tasks, idHighWaterMark, TaskCodec.read(payload));
+        }
+        restore(tasks, idHighWaterMark, TaskCodec.read(payload));
+      }
+      case WriteAheadLog.CLEAR -> tasks.clear();
+      default -> throw new IOException("Unknown journal record type: " + type);
+    }
+  }
+}
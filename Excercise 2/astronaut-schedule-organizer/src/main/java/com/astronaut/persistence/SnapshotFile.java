@@ -0,0 +1,144 @@
+package com.astronaut.persistence;
+
+import com.astronaut.models.Task;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+// Full copy of the schedule as of one journal sequence. It is written to a temporary file,
+// forced and renamed over the previous snapshot, so a crash leaves either the old snapshot or
+// the new one, never a mix. The header also keeps the largest numeric task id the store has
+// seen, since the snapshot replaces the journal segments holding ids of removed tasks.
+final class SnapshotFile {
+  private static final String FILE_NAME = "schedule.snapshot";
+  private static final String TEMP_FILE_NAME = FILE_NAME + ".tmp";
+  private static final int MAGIC = 0x4153534E;
+  private static final byte FORMAT_VERSION = 2;
+  private static final byte FORMAT_VERSION_WITHOUT_ID_MARK = 1;
+  private static final int BUFFER_BYTES = 64 * 1024;
+
+  static final class Contents {
+    private final long sequence;
+    private final long idHighWaterMark;
+    private final List<Task> tasks;
+
+    Contents(long sequence, long idHighWaterMark, List<Task> tasks) {
+      this.sequence = sequence;
+      this.idHighWaterMark = idHighWaterMark;
+      this.tasks = tasks;
+    }
+
+    long getSequence() {
+      return sequence;
+    }
+
+    // -1 when no numeric id was seen.
+    long getIdHighWaterMark() {
+      return idHighWaterMark;
+    }
+
+    List<Task> getTasks() {
+      return tasks;
+    }
+  }
+
+  private SnapshotFile() {}
+
+  static void write(Path directory, long sequence, long idHighWaterMark, Collection<Task> tasks)
+      throws IOException {
+    Path temp = directory.resolve(TEMP_FILE_NAME);
+    try (FileChannel channel =
+        FileChannel.open(
+            temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      // Buffering below the checksum keeps CRC updates to whole 64K blocks.
+      CheckedOutputStream checked = new CheckedOutputStream(Channels.newOutputStream(channel), new CRC32C());
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(checked, BUFFER_BYTES));
+      out.writeInt(MAGIC);
+      out.writeByte(FORMAT_VERSION);
+      out.writeLong(sequence);
+      out.writeLong(idHighWaterMark);
+      out.writeInt(tasks.size());
+      for (Task task : tasks) {
+        TaskCodec.write(out, task);
+      }
+      out.flush();
+      out.writeInt((int) checked.getChecksum().getValue());
+      out.flush();
+      channel.force(true);
+    }
+    Path target = directory.resolve(FILE_NAME);
+    try {
+      Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+    syncDirectory(directory);
+  }
+
+  // Returns null when there is no snapshot yet. The file is read whole so the checksum is one
+  // pass over one array.
+  static Contents read(Path directory) throws IOException {
+    Path file = directory.resolve(FILE_NAME);
+    if (!Files.exists(file)) {
+      return null;
+    }
+    byte[] bytes = Files.readAllBytes(file);
+    int bodyLength = bytes.length - Integer.BYTES;
+    if (bodyLength < 0) {
+      throw new IOException("Snapshot is truncated: " + file);
+    }
+    CRC32C checksum = new CRC32C();
+    checksum.update(bytes, 0, bodyLength);
+    if ((int) checksum.getValue() != ByteBuffer.wrap(bytes, bodyLength, Integer.BYTES).getInt()) {
+      throw new IOException("Snapshot checksum mismatch: " + file);
+    }
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, bodyLength))) {
+      if (in.readInt() != MAGIC) {
+        throw new IOException("Not a schedule snapshot: " + file);
+      }
+      byte version = in.readByte();
+      if (version != FORMAT_VERSION && version != FORMAT_VERSION_WITHOUT_ID_MARK) {
+        throw new IOException("Unsupported snapshot version " + version + ": " + file);
+      }
+      long sequence = in.readLong();
+      long idHighWaterMark = version == FORMAT_VERSION ? in.readLong() : -1;
+      int count = in.readInt();
+      if (count < 0) {
+        throw new IOException("Corrupt task count in snapshot: " + count);
+      }
+      List<Task> tasks = new ArrayList<>(Math.min(count, bodyLength));
+      for (int i = 0; i < count; i++) {
+        tasks.add(TaskCodec.read(in));
+      }
+      return new Contents(sequence, idHighWaterMark, tasks);
+    } catch (EOFException e) {
+      throw new IOException("Snapshot is truncated: " + file, e);
+    }
+  }
+
+  // Makes the rename itself durable. Not every platform can open a directory, so this is best
+  // effort.
+  private static void syncDirectory(Path directory) {
+    try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      channel.force(true);
+    } catch (IOException e) {
+      // Ignored: the rename is still atomic, only its durability window is longer.
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.astronaut.persistence;
+
+import com.astronaut.models.Priority;
+import com.astronaut.models.Task;
+import com.astronaut.models.TaskStatus;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalTime;
+
+// Binary form of a task shared by the journal and snapshots: id, description, start and end as
+// nano-of-day, then priority and status ordinals. Changing the enum order needs a new format
+// version.
+final class TaskCodec {
+  private static final Priority[] PRIORITIES = Priority.values();
+  private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+  private TaskCodec() {}
+
+  static void write(DataOutput out, Task task) throws IOException {
+    out.writeUTF(task.getId());
+    out.writeUTF(task.getDescription());
+    out.writeLong(task.getStartTime().toNanoOfDay());
+    out.writeLong(task.getEndTime().toNanoOfDay());
+    out.writeByte(task.getPriority().ordinal());
+    out.writeByte(task.getStatus().ordinal());
+  }
+
+  static Task read(DataInput in) throws IOException {
+    String id = in.readUTF();
+    String description = in.readUTF();
+    LocalTime startTime = toLocalTime(in.readLong());
+    LocalTime endTime = toLocalTime(in.readLong());
+    int priority = in.readUnsignedByte();
+    int status = in.readUnsignedByte();
+    if (priority >= PRIORITIES.length || status >= STATUSES.length) {
+      throw new IOException("Corrupt task record for id " + id);
+    }
+    return new Task(id, description, startTime, endTime, PRIORITIES[priority], STATUSES[status]);
+  }
+
+  private static LocalTime toLocalTime(long nanoOfDay) throws IOException {
+    if (nanoOfDay < 0 || nanoOfDay > LocalTime.MAX.toNanoOfDay()) {
+      throw new IOException("Corrupt time in task record: " + nanoOfDay);
+    }
+    return LocalTime.ofNanoOfDay(nanoOfDay);
+  }
+}
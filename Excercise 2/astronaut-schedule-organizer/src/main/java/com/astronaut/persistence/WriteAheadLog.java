@@ -0,0 +1,328 @@
+package com.astronaut.persistence;
+
+import com.astronaut.utils.Logger;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+// Append-only journal split into segment files, each named after the first sequence number it
+// may hold. A record is [body length][crc32c of body][body] with body = sequence, type, payload.
+// Records are only ever applied in unbroken sequence order, so a torn tail left by a crash is
+// ignored and the segment opened after recovery continues from the last intact record.
+final class WriteAheadLog implements Closeable {
+  static final byte ADD = 1;
+  static final byte ADD_BATCH = 2;
+  static final byte REMOVE = 3;
+  static final byte REPLACE = 4;
+  static final byte CLEAR = 5;
+  static final byte PREEMPT = 6;
+
+  private static final int MAGIC = 0x4153574C;
+  private static final byte FORMAT_VERSION = 1;
+  private static final int HEADER_BYTES = 5;
+  private static final String SEGMENT_PREFIX = "journal-";
+  private static final String SEGMENT_SUFFIX = ".wal";
+  private static final int BUFFER_BYTES = 64 * 1024;
+  private static final int MAX_RECORD_BYTES = 64 * 1024 * 1024;
+
+  interface PayloadWriter {
+    void write(DataOutputStream out) throws IOException;
+  }
+
+  interface RecordHandler {
+    void onRecord(long sequence, byte type, DataInput payload) throws IOException;
+  }
+
+  private static final class Segment {
+    private final long firstSequence;
+    private final Path path;
+
+    private Segment(long firstSequence, Path path) {
+      this.firstSequence = firstSequence;
+      this.path = path;
+    }
+  }
+
+  // Exposes its array so a record can be checksummed and copied without toByteArray().
+  private static final class RecordBuffer extends ByteArrayOutputStream {
+    private RecordBuffer() {
+      super(256);
+    }
+
+    private byte[] array() {
+      return buf;
+    }
+  }
+
+  private final Path directory;
+  private final Object syncLock;
+  private final ByteBuffer buffer;
+  private final RecordBuffer record;
+  private final DataOutputStream recordOut;
+  private final CRC32C crc;
+  private FileChannel channel;
+  private Path segmentPath;
+  private long segmentRecords;
+  private long lastSequence;
+  private long forcedSequence;
+
+  private WriteAheadLog(Path directory, long lastSequence) {
+    this.directory = directory;
+    this.syncLock = new Object();
+    this.buffer = ByteBuffer.allocate(BUFFER_BYTES);
+    this.record = new RecordBuffer();
+    this.recordOut = new DataOutputStream(record);
+    this.crc = new CRC32C();
+    this.lastSequence = lastSequence;
+    this.forcedSequence = lastSequence;
+  }
+
+  // Starts a new segment after the recovered position. Segments at or beyond it can only hold
+  // records that replay refused, so they are removed rather than replayed after the new one.
+  static WriteAheadLog open(Path directory, long lastSequence) throws IOException {
+    for (Segment segment : listSegments(directory)) {
+      if (segment.firstSequence > lastSequence) {
+        if (Files.size(segment.path) > HEADER_BYTES) {
+          Logger.getInstance().warn("Discarding unreplayable journal segment {}", segment.path);
+        }
+        Files.delete(segment.path);
+      }
+    }
+    WriteAheadLog log = new WriteAheadLog(directory, lastSequence);
+    log.openSegment();
+    return log;
+  }
+
+  // Feeds every intact record with a sequence above afterSequence to the handler, in order, and
+  // returns the last sequence applied. A segment ends at its first torn or corrupt record; the
+  // next segment is only read if it starts right after the last applied sequence.
+  static long replay(Path directory, long afterSequence, RecordHandler handler) throws IOException {
+    long last = afterSequence;
+    for (Segment segment : listSegments(directory)) {
+      if (segment.firstSequence > last + 1) {
+        Logger.getInstance().warn("Journal gap before sequence {}, replay stopped", segment.firstSequence);
+        break;
+      }
+      last = replaySegment(segment, last, handler);
+    }
+    return last;
+  }
+
+  private static long replaySegment(Segment segment, long last, RecordHandler handler) throws IOException {
+    Logger logger = Logger.getInstance();
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(segment.path), BUFFER_BYTES))) {
+      if (!readHeader(in)) {
+        return last;
+      }
+      CRC32C checksum = new CRC32C();
+      byte[] body = new byte[256];
+      while (true) {
+        int length;
+        int expectedCrc;
+        try {
+          length = in.readInt();
+          if (length < Long.BYTES + 1 || length > MAX_RECORD_BYTES) {
+            logger.warn("Corrupt record length in {}", segment.path);
+            return last;
+          }
+          if (body.length < length) {
+            body = new byte[Math.max(length, body.length * 2)];
+          }
+          expectedCrc = in.readInt();
+          in.readFully(body, 0, length);
+        } catch (EOFException e) {
+          return last;
+        }
+        checksum.reset();
+        checksum.update(body, 0, length);
+        if ((int) checksum.getValue() != expectedCrc) {
+          logger.warn("Checksum mismatch in {}", segment.path);
+          return last;
+        }
+        DataInputStream payload = new DataInputStream(new ByteArrayInputStream(body, 0, length));
+        long sequence = payload.readLong();
+        byte type = payload.readByte();
+        if (sequence <= last) {
+          continue;
+        }
+        if (sequence != last + 1) {
+          logger.warn("Journal gap before sequence {}", sequence);
+          return last;
+        }
+        handler.onRecord(sequence, type, payload);
+        last = sequence;
+      }
+    }
+  }
+
+  synchronized long getLastSequence() {
+    return lastSequence;
+  }
+
+  // Encodes one record into the in-memory buffer and returns its sequence number. sync() hands
+  // buffered records to the OS.
+  synchronized long append(byte type, PayloadWriter payload) throws IOException {
+    long sequence = lastSequence + 1;
+    record.reset();
+    recordOut.writeLong(sequence);
+    recordOut.writeByte(type);
+    payload.write(recordOut);
+    int length = record.size();
+    crc.reset();
+    crc.update(record.array(), 0, length);
+    int recordBytes = 2 * Integer.BYTES + length;
+    if (buffer.remaining() < recordBytes) {
+      drain();
+    }
+    if (buffer.remaining() < recordBytes) {
+      ByteBuffer large = ByteBuffer.allocate(recordBytes);
+      large.putInt(length).putInt((int) crc.getValue()).put(record.array(), 0, length).flip();
+      writeFully(large);
+    } else {
+      buffer.putInt(length).putInt((int) crc.getValue()).put(record.array(), 0, length);
+    }
+    lastSequence = sequence;
+    segmentRecords++;
+    return sequence;
+  }
+
+  // Hands buffered records to the OS and, if force is set, fsyncs them. A caller that arrives
+  // while another thread is syncing waits, then usually finds its record already covered, so
+  // concurrent commits share one fsync.
+  void sync(boolean force) throws IOException {
+    synchronized (syncLock) {
+      long target;
+      FileChannel current;
+      synchronized (this) {
+        drain();
+        target = lastSequence;
+        current = channel;
+      }
+      if (force && forcedSequence < target) {
+        current.force(false);
+        forcedSequence = target;
+      }
+    }
+  }
+
+  // Closes the current segment and starts the next one, so segments fully covered by a
+  // snapshot can be deleted.
+  void rotate() throws IOException {
+    synchronized (syncLock) {
+      synchronized (this) {
+        if (segmentRecords == 0) {
+          return;
+        }
+        drain();
+        channel.force(false);
+        forcedSequence = lastSequence;
+        channel.close();
+        openSegment();
+      }
+    }
+  }
+
+  // A segment holds only sequences below the next segment's first one, so it is fully covered
+  // when the next segment starts at or before coveredSequence + 1.
+  void deleteSegmentsCoveredBy(long coveredSequence) throws IOException {
+    List<Segment> segments = listSegments(directory);
+    Path current;
+    synchronized (this) {
+      current = segmentPath;
+    }
+    for (int i = 0; i + 1 < segments.size(); i++) {
+      Segment segment = segments.get(i);
+      if (segments.get(i + 1).firstSequence <= coveredSequence + 1 && !segment.path.equals(current)) {
+        Files.deleteIfExists(segment.path);
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    synchronized (syncLock) {
+      synchronized (this) {
+        drain();
+        channel.force(false);
+        channel.close();
+        if (segmentRecords == 0) {
+          Files.deleteIfExists(segmentPath);
+        }
+      }
+    }
+  }
+
+  private void openSegment() throws IOException {
+    segmentPath = directory.resolve(segmentName(lastSequence + 1));
+    channel =
+        FileChannel.open(
+            segmentPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    segmentRecords = 0;
+    buffer.clear();
+    buffer.putInt(MAGIC).put(FORMAT_VERSION);
+  }
+
+  private void drain() throws IOException {
+    if (buffer.position() == 0) {
+      return;
+    }
+    buffer.flip();
+    try {
+      writeFully(buffer);
+    } finally {
+      buffer.compact();
+    }
+  }
+
+  private void writeFully(ByteBuffer source) throws IOException {
+    while (source.hasRemaining()) {
+      channel.write(source);
+    }
+  }
+
+  private static boolean readHeader(DataInputStream in) throws IOException {
+    try {
+      return in.readInt() == MAGIC && in.readByte() == FORMAT_VERSION;
+    } catch (EOFException e) {
+      return false;
+    }
+  }
+
+  private static String segmentName(long firstSequence) {
+    return String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX);
+  }
+
+  private static List<Segment> listSegments(Path directory) throws IOException {
+    List<Segment> segments = new ArrayList<>();
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+      for (Path file : files) {
+        String name = file.getFileName().toString();
+        String number = name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length());
+        try {
+          segments.add(new Segment(Long.parseLong(number), file));
+        } catch (NumberFormatException e) {
+          // Not one of ours.
+        }
+      }
+    }
+    segments.sort(Comparator.comparingLong(segment -> segment.firstSequence));
+    return segments;
+  }
+}
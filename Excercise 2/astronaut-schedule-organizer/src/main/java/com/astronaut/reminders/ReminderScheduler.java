@@ -0,0 +1,270 @@
+package com.astronaut.reminders;
+
+import com.astronaut.models.Task;
+import com.astronaut.models.TaskReminder;
+import com.astronaut.models.TaskStatus;
+import com.astronaut.patterns.behavioral.observer.TaskEventType;
+import com.astronaut.patterns.behavioral.observer.TaskObserver;
+import com.astronaut.patterns.behavioral.observer.TaskObserverAdapter;
+import com.astronaut.patterns.creational.singleton.ScheduleManager;
+import com.astronaut.utils.Logger;
+import java.io.Closeable;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// Fires task reminders on time from a single thread. Reminders sit in a timing wheel keyed by
+// task id; the thread sleeps until the wheel's next due tick instead of polling, so thousands of
+// pending reminders cost no more wakeups than a handful. Due reminders reach observers as
+// onTaskReminder. Removing or completing a task cancels its reminder and updating it moves the
+// reminder with the new start time.
+//
+// Times come from the given clock and reminders are for today in the clock's zone. Without
+// start(), nothing fires until fireDueReminders() is called, which is how a test clock drives it.
+public class ReminderScheduler implements Closeable {
+  private static volatile ReminderScheduler instance;
+  private static final long DEFAULT_TICK_MILLIS = 10;
+
+  private static final class PendingReminder {
+    private final Task task;
+    private final int minutesBefore;
+    private final long dueMillis;
+
+    private PendingReminder(Task task, int minutesBefore, long dueMillis) {
+      this.task = task;
+      this.minutesBefore = minutesBefore;
+      this.dueMillis = dueMillis;
+    }
+  }
+
+  private final ScheduleManager manager;
+  private final Clock clock;
+  private final long tickMillis;
+  private final long originMillis;
+  private final Object lock;
+  private final TimingWheel<PendingReminder> wheel;
+  private final Map<String, TimingWheel.Entry<PendingReminder>> byTaskId;
+  private final TaskObserver taskListener;
+  private final AtomicLong firedCount;
+  private final AtomicLong totalJitterMillis;
+  private final AtomicLong maxJitterMillis;
+  private final Logger logger;
+  private volatile long plannedWakeTick;
+  private volatile boolean running;
+  private volatile Thread ticker;
+
+  public ReminderScheduler(ScheduleManager manager, Clock clock, long tickMillis) {
+    if (manager == null || clock == null) {
+      throw new IllegalArgumentException("Schedule manager and clock cannot be null");
+    }
+    if (tickMillis <= 0) {
+      throw new IllegalArgumentException("Tick must be positive");
+    }
+    this.manager = manager;
+    this.clock = clock;
+    this.tickMillis = tickMillis;
+    this.originMillis = clock.millis();
+    this.lock = new Object();
+    this.wheel = new TimingWheel<>(0);
+    this.byTaskId = new HashMap<>();
+    this.firedCount = new AtomicLong();
+    this.totalJitterMillis = new AtomicLong();
+    this.maxJitterMillis = new AtomicLong();
+    this.logger = Logger.getInstance();
+    this.plannedWakeTick = TimingWheel.NO_WAKE;
+    this.taskListener =
+        new TaskObserverAdapter() {
+          @Override
+          public void onTaskRemoved(Task task) {
+            cancel(task.getId());
+          }
+
+          @Override
+          public void onTaskUpdated(Task task) {
+            reschedule(task);
+          }
+        };
+    manager.addObserver(taskListener, EnumSet.of(TaskEventType.REMOVED, TaskEventType.UPDATED));
+  }
+
+  public static ReminderScheduler getInstance() {
+    ReminderScheduler result = instance;
+    if (result == null) {
+      synchronized (ReminderScheduler.class) {
+        result = instance;
+        if (result == null) {
+          result = new ReminderScheduler(ScheduleManager.getInstance(), Clock.systemDefaultZone(), DEFAULT_TICK_MILLIS);
+          result.start();
+          instance = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+    running = true;
+    ticker = new Thread(this::run, "reminder-scheduler");
+    ticker.setDaemon(true);
+    ticker.start();
+  }
+
+  // Schedules the task's reminder, replacing any it already had. A reminder whose time has
+  // passed fires right away; returns false, and schedules nothing, once the task has started or
+  // is completed.
+  public boolean schedule(Task task, int minutesBefore) {
+    if (task == null) {
+      throw new IllegalArgumentException("Task cannot be null");
+    }
+    if (minutesBefore < 0) {
+      throw new IllegalArgumentException("Reminder minutes cannot be negative");
+    }
+    long now = clock.millis();
+    ZonedDateTime start = LocalDate.now(clock).atTime(task.getStartTime()).atZone(clock.getZone());
+    if (task.getStatus() == TaskStatus.COMPLETED || start.toInstant().toEpochMilli() <= now) {
+      cancel(task.getId());
+      return false;
+    }
+    long dueMillis = Math.max(now, start.minusMinutes(minutesBefore).toInstant().toEpochMilli());
+    // Rounded up, so a reminder is never early.
+    long dueTick = Math.floorDiv(dueMillis - originMillis + tickMillis - 1, tickMillis);
+    synchronized (lock) {
+      TimingWheel.Entry<PendingReminder> previous =
+          byTaskId.put(task.getId(), wheel.schedule(new PendingReminder(task, minutesBefore, dueMillis), dueTick));
+      if (previous != null) {
+        wheel.cancel(previous);
+      }
+    }
+    if (dueTick < plannedWakeTick) {
+      LockSupport.unpark(ticker);
+    }
+    return true;
+  }
+
+  public boolean cancel(String taskId) {
+    synchronized (lock) {
+      TimingWheel.Entry<PendingReminder> entry = byTaskId.remove(taskId);
+      return entry != null && wheel.cancel(entry);
+    }
+  }
+
+  public int getPendingCount() {
+    synchronized (lock) {
+      return wheel.size();
+    }
+  }
+
+  // Delivers every reminder due by now and returns how many reached observers. Reminders whose
+  // task was removed or completed meanwhile are dropped silently.
+  public int fireDueReminders() {
+    List<PendingReminder> due = new ArrayList<>();
+    synchronized (lock) {
+      long nowTick = Math.floorDiv(clock.millis() - originMillis, tickMillis);
+      wheel.advanceTo(
+          nowTick,
+          reminder -> {
+            due.add(reminder);
+            byTaskId.remove(reminder.task.getId());
+          });
+    }
+    // Published outside the lock: observers hold the schedule's write lock while a task change
+    // cancels or moves a reminder.
+    int fired = 0;
+    for (PendingReminder reminder : due) {
+      TaskReminder event = new TaskReminder(reminder.task, reminder.minutesBefore, reminder.dueMillis, clock.millis());
+      if (manager.publishReminder(event)) {
+        recordJitter(event.getJitterMillis());
+        fired++;
+      }
+    }
+    return fired;
+  }
+
+  public long getFiredCount() {
+    return firedCount.get();
+  }
+
+  public long getMaxJitterMillis() {
+    return maxJitterMillis.get();
+  }
+
+  public double getMeanJitterMillis() {
+    long count = firedCount.get();
+    return count == 0 ? 0 : (double) totalJitterMillis.get() / count;
+  }
+
+  // Stops the thread and detaches from the schedule; pending reminders no longer fire.
+  @Override
+  public void close() {
+    Thread current;
+    synchronized (this) {
+      running = false;
+      current = ticker;
+    }
+    if (current != null) {
+      LockSupport.unpark(current);
+      try {
+        current.join(TimeUnit.SECONDS.toMillis(1));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    manager.removeObserver(taskListener);
+  }
+
+  private void reschedule(Task task) {
+    int minutesBefore;
+    synchronized (lock) {
+      TimingWheel.Entry<PendingReminder> entry = byTaskId.get(task.getId());
+      if (entry == null) {
+        return;
+      }
+      minutesBefore = entry.getValue().minutesBefore;
+    }
+    schedule(task, minutesBefore);
+  }
+
+  private void recordJitter(long jitterMillis) {
+    firedCount.incrementAndGet();
+    totalJitterMillis.addAndGet(jitterMillis);
+    maxJitterMillis.accumulateAndGet(jitterMillis, Math::max);
+  }
+
+  private void run() {
+    while (running) {
+      try {
+        fireDueReminders();
+      } catch (RuntimeException e) {
+        logger.error("Reminder delivery failed: {}", e.getMessage());
+      }
+      long wakeTick;
+      synchronized (lock) {
+        wakeTick = wheel.nextWakeTick();
+        plannedWakeTick = wakeTick;
+      }
+      if (!running) {
+        break;
+      }
+      // A reminder scheduled before the wake tick unparks the thread early.
+      if (wakeTick == TimingWheel.NO_WAKE) {
+        LockSupport.park(this);
+      } else {
+        long delayMillis = originMillis + wakeTick * tickMillis - clock.millis();
+        if (delayMillis > 0) {
+          LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(delayMillis));
+        }
+      }
+    }
+  }
+}
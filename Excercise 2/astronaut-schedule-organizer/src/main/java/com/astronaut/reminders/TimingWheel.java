@@ -0,0 +1,178 @@
+package com.astronaut.reminders;
+
+import java.util.function.Consumer;
+
+// Hierarchical timing wheel: four levels of 64 slots, each slot of a level spanning a whole
+// rotation of the level below. Scheduling and cancelling are O(1); an entry is moved down a level
+// when the wheel reaches its slot, so it is touched at most once per level. Not thread-safe.
+final class TimingWheel<T> {
+  private static final int BITS = 6;
+  private static final int SLOTS = 1 << BITS;
+  private static final int LEVELS = 4;
+  private static final long MAX_DELAY_TICKS = (1L << (BITS * LEVELS)) - 1;
+
+  static final long NO_WAKE = Long.MAX_VALUE;
+
+  static final class Entry<T> {
+    private final T value;
+    private final long dueTick;
+    private Entry<T> prev;
+    private Entry<T> next;
+    private int level = -1;
+    private int slot;
+
+    private Entry(T value, long dueTick) {
+      this.value = value;
+      this.dueTick = dueTick;
+    }
+
+    T getValue() {
+      return value;
+    }
+  }
+
+  private final Entry<T>[][] heads;
+  private final int[] levelCounts;
+  // The next tick to process; everything due before it has fired.
+  private long currentTick;
+  private int size;
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  TimingWheel(long startTick) {
+    this.heads = new Entry[LEVELS][SLOTS];
+    this.levelCounts = new int[LEVELS];
+    this.currentTick = startTick;
+  }
+
+  Entry<T> schedule(T value, long dueTick) {
+    Entry<T> entry = new Entry<>(value, dueTick);
+    place(entry);
+    size++;
+    return entry;
+  }
+
+  // Returns false when the entry already fired or was cancelled.
+  boolean cancel(Entry<T> entry) {
+    if (entry.level < 0) {
+      return false;
+    }
+    unlink(entry);
+    size--;
+    return true;
+  }
+
+  int size() {
+    return size;
+  }
+
+  // Fires every entry due up to and including the given tick.
+  void advanceTo(long tick, Consumer<T> fire) {
+    while (currentTick <= tick) {
+      long now = currentTick;
+      for (int level = 1; level < LEVELS; level++) {
+        if ((now & ((1L << (BITS * level)) - 1)) != 0) {
+          break;
+        }
+        cascade(level, (int) ((now >>> (BITS * level)) & (SLOTS - 1)));
+      }
+      Entry<T> entry = takeSlot(0, (int) (now & (SLOTS - 1)));
+      currentTick++;
+      while (entry != null) {
+        Entry<T> next = entry.next;
+        entry.next = null;
+        if (entry.dueTick <= now) {
+          size--;
+          fire.accept(entry.value);
+        } else {
+          place(entry);
+        }
+        entry = next;
+      }
+    }
+  }
+
+  // The first tick at which advancing can do anything: an entry fires or a slot moves down a
+  // level. The wheel only needs to wake then, not on every tick.
+  long nextWakeTick() {
+    if (size == 0) {
+      return NO_WAKE;
+    }
+    for (int level = 0; level < LEVELS; level++) {
+      int shift = BITS * level;
+      long span = 1L << shift;
+      long rotation = span << BITS;
+      long end = roundUp(currentTick + 1, rotation);
+      for (long tick = roundUp(currentTick, span); tick < end; tick += span) {
+        if (heads[level][(int) ((tick >>> shift) & (SLOTS - 1))] != null) {
+          return tick;
+        }
+      }
+      // What is left on this level belongs to its next rotation, which starts at end.
+      if (levelCounts[level] > 0) {
+        return end;
+      }
+    }
+    return NO_WAKE;
+  }
+
+  private void place(Entry<T> entry) {
+    long delay = Math.max(0, entry.dueTick - currentTick);
+    // Beyond the top level's reach the entry waits in its farthest slot and is placed again
+    // when that slot comes round.
+    long placeTick = currentTick + Math.min(delay, MAX_DELAY_TICKS);
+    int level = 0;
+    while (level < LEVELS - 1 && (Math.min(delay, MAX_DELAY_TICKS) >>> (BITS * (level + 1))) != 0) {
+      level++;
+    }
+    int slot = (int) ((placeTick >>> (BITS * level)) & (SLOTS - 1));
+    entry.level = level;
+    entry.slot = slot;
+    entry.prev = null;
+    entry.next = heads[level][slot];
+    if (entry.next != null) {
+      entry.next.prev = entry;
+    }
+    heads[level][slot] = entry;
+    levelCounts[level]++;
+  }
+
+  private void unlink(Entry<T> entry) {
+    if (entry.prev != null) {
+      entry.prev.next = entry.next;
+    } else {
+      heads[entry.level][entry.slot] = entry.next;
+    }
+    if (entry.next != null) {
+      entry.next.prev = entry.prev;
+    }
+    levelCounts[entry.level]--;
+    entry.level = -1;
+    entry.prev = null;
+    entry.next = null;
+  }
+
+  // Detaches a whole slot; the returned entries are still chained through next.
+  private Entry<T> takeSlot(int level, int slot) {
+    Entry<T> head = heads[level][slot];
+    heads[level][slot] = null;
+    for (Entry<T> entry = head; entry != null; entry = entry.next) {
+      entry.level = -1;
+      entry.prev = null;
+      levelCounts[level]--;
+    }
+    return head;
+  }
+
+  private void cascade(int level, int slot) {
+    Entry<T> entry = takeSlot(level, slot);
+    while (entry != null) {
+      Entry<T> next = entry.next;
+      place(entry);
+      entry = next;
+    }
+  }
+
+  private static long roundUp(long tick, long multiple) {
+    return Math.floorDiv(tick + multiple - 1, multiple) * multiple;
+  }
+}
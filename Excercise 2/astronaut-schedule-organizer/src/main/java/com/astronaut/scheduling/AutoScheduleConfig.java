@@ -0,0 +1,41 @@
+package com.astronaut.scheduling;
+
+public class AutoScheduleConfig {
+  private static final long DEFAULT_TIME_BUDGET_MILLIS = 200;
+  private static final int DEFAULT_PARALLEL_THRESHOLD = 64;
+  private static final int DEFAULT_MAX_PLANS = 512;
+
+  private final long timeBudgetMillis;
+  private final int parallelThreshold;
+  private final int maxPlans;
+
+  // The budget bounds the search, not the whole call: the first two plans are always finished.
+  // Batches of at least parallelThreshold tasks search on the common fork/join pool.
+  public AutoScheduleConfig(long timeBudgetMillis, int parallelThreshold, int maxPlans) {
+    if (timeBudgetMillis < 0) {
+      throw new IllegalArgumentException("Time budget cannot be negative");
+    }
+    if (parallelThreshold <= 0 || maxPlans < 2) {
+      throw new IllegalArgumentException("Parallel threshold must be positive and at least two plans allowed");
+    }
+    this.timeBudgetMillis = timeBudgetMillis;
+    this.parallelThreshold = parallelThreshold;
+    this.maxPlans = maxPlans;
+  }
+
+  public static AutoScheduleConfig defaults() {
+    return new AutoScheduleConfig(DEFAULT_TIME_BUDGET_MILLIS, DEFAULT_PARALLEL_THRESHOLD, DEFAULT_MAX_PLANS);
+  }
+
+  public long getTimeBudgetMillis() {
+    return timeBudgetMillis;
+  }
+
+  public int getParallelThreshold() {
+    return parallelThreshold;
+  }
+
+  public int getMaxPlans() {
+    return maxPlans;
+  }
+}
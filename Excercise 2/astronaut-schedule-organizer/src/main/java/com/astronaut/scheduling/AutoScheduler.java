@@ -0,0 +1,254 @@
+package com.astronaut.scheduling;
+
+import com.astronaut.index.OccupancyBitmap;
+import com.astronaut.models.FlexibleTask;
+import com.astronaut.models.Priority;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Places flexible tasks into the free minutes of a day. A plan takes the tasks in some order and
+// gives each the first gap it fits (first fit) or the tightest one (best fit). Every order puts
+// higher priorities first, so a lower-priority task never takes room a higher one was offered.
+// Plan 0 and 1 use the most-constrained-first order; the rest shuffle tasks of equal priority.
+// Plans are compared by tasks placed per priority, highest priority first, then minutes placed,
+// then how early the tasks start. Plans are independent, so large batches search them on the
+// fork/join pool until the time budget runs out.
+public class AutoScheduler {
+  // The last representable end time in HH:mm is 23:59.
+  private static final int LAST_END_MINUTE = OccupancyBitmap.MINUTES_PER_DAY - 1;
+  private static final int PLANS_PER_LEAF = 4;
+  private static final long SEED = 0x5EED_CAFEL;
+  private static final int PRIORITY_LEVELS = Priority.values().length;
+
+  private final AutoScheduleConfig config;
+
+  public AutoScheduler(AutoScheduleConfig config) {
+    if (config == null) {
+      throw new IllegalArgumentException("Auto-schedule config cannot be null");
+    }
+    this.config = config;
+  }
+
+  // The occupancy is only read; pass a copy if the schedule may change meanwhile.
+  public PlacementPlan plan(List<FlexibleTask> tasks, OccupancyBitmap occupied) {
+    if (tasks == null || occupied == null) {
+      throw new IllegalArgumentException("Tasks and occupancy cannot be null");
+    }
+    long started = System.nanoTime();
+    Problem problem =
+        new Problem(tasks, occupied, started + TimeUnit.MILLISECONDS.toNanos(config.getTimeBudgetMillis()));
+    Candidate best = better(problem.evaluate(0), problem.evaluate(1));
+    // With one task, or tasks of all different priorities, shuffling cannot change anything.
+    int planCount = problem.hasTies() ? config.getMaxPlans() : 2;
+    if (planCount > 2 && System.nanoTime() < problem.deadline) {
+      PlanSearch search = new PlanSearch(problem, 2, planCount);
+      Candidate found =
+          tasks.size() >= config.getParallelThreshold()
+              ? ForkJoinPool.commonPool().invoke(search)
+              : search.searchSequentially();
+      best = better(best, found);
+    }
+    return new PlacementPlan(best.starts, problem.evaluated.get(), System.nanoTime() - started);
+  }
+
+  private static Candidate better(Candidate first, Candidate second) {
+    if (first == null) {
+      return second;
+    }
+    if (second == null) {
+      return first;
+    }
+    return first.compareTo(second) >= 0 ? first : second;
+  }
+
+  private static final class Candidate implements Comparable<Candidate> {
+    private final int plan;
+    private final int[] starts;
+    private final int[] placedPerLevel;
+    private final long placedMinutes;
+    private final long startMinuteSum;
+
+    private Candidate(int plan, int[] starts, int[] placedPerLevel, long placedMinutes, long startMinuteSum) {
+      this.plan = plan;
+      this.starts = starts;
+      this.placedPerLevel = placedPerLevel;
+      this.placedMinutes = placedMinutes;
+      this.startMinuteSum = startMinuteSum;
+    }
+
+    // Greater is better.
+    @Override
+    public int compareTo(Candidate other) {
+      for (int level = PRIORITY_LEVELS - 1; level >= 0; level--) {
+        if (placedPerLevel[level] != other.placedPerLevel[level]) {
+          return Integer.compare(placedPerLevel[level], other.placedPerLevel[level]);
+        }
+      }
+      if (placedMinutes != other.placedMinutes) {
+        return Long.compare(placedMinutes, other.placedMinutes);
+      }
+      if (startMinuteSum != other.startMinuteSum) {
+        return Long.compare(other.startMinuteSum, startMinuteSum);
+      }
+      return Integer.compare(other.plan, plan);
+    }
+  }
+
+  private static final class Problem {
+    private final int size;
+    private final int[] durations;
+    private final int[] earliest;
+    private final int[] latest;
+    private final int[] levels;
+    private final int[] baseOrder;
+    // Where each run of equal priority starts in baseOrder, plus its end.
+    private final int[] groupBounds;
+    private final OccupancyBitmap occupied;
+    private final long deadline;
+    private final AtomicInteger evaluated;
+
+    private Problem(List<FlexibleTask> tasks, OccupancyBitmap occupied, long deadline) {
+      this.size = tasks.size();
+      this.durations = new int[size];
+      this.earliest = new int[size];
+      this.latest = new int[size];
+      this.levels = new int[size];
+      for (int i = 0; i < size; i++) {
+        FlexibleTask task = tasks.get(i);
+        durations[i] = task.getDurationMinutes();
+        earliest[i] = OccupancyBitmap.endMinute(task.getEarliestStart());
+        latest[i] = Math.min(LAST_END_MINUTE, OccupancyBitmap.startMinute(task.getLatestEnd()));
+        levels[i] = task.getPriority().ordinal();
+      }
+      Integer[] order = new Integer[size];
+      for (int i = 0; i < size; i++) {
+        order[i] = i;
+      }
+      Arrays.sort(
+          order,
+          Comparator.<Integer>comparingInt(i -> -levels[i])
+              .thenComparingInt(i -> latest[i] - earliest[i] - durations[i])
+              .thenComparingInt(i -> -durations[i])
+              .thenComparingInt(i -> earliest[i])
+              .thenComparingInt(i -> i));
+      this.baseOrder = new int[size];
+      int groups = 0;
+      int[] bounds = new int[size + 1];
+      for (int i = 0; i < size; i++) {
+        baseOrder[i] = order[i];
+        if (i == 0 || levels[order[i]] != levels[order[i - 1]]) {
+          bounds[groups++] = i;
+        }
+      }
+      bounds[groups] = size;
+      this.groupBounds = Arrays.copyOf(bounds, groups + 1);
+      this.occupied = occupied;
+      this.deadline = deadline;
+      this.evaluated = new AtomicInteger();
+    }
+
+    private boolean hasTies() {
+      return groupBounds.length - 1 < size;
+    }
+
+    private Candidate evaluate(int plan) {
+      int[] order = plan < 2 ? baseOrder : shuffledOrder(plan);
+      boolean bestFit = plan % 2 == 1;
+      OccupancyBitmap timeline = new OccupancyBitmap(occupied);
+      int[] starts = new int[size];
+      int[] placedPerLevel = new int[PRIORITY_LEVELS];
+      long placedMinutes = 0;
+      long startMinuteSum = 0;
+      for (int task : order) {
+        int start = bestFit ? bestFit(timeline, task) : timeline.findFreeRun(earliest[task], durations[task], latest[task]);
+        starts[task] = start < 0 ? PlacementPlan.UNPLACED : start;
+        if (start >= 0) {
+          timeline.occupy(start, start + durations[task]);
+          placedPerLevel[levels[task]]++;
+          placedMinutes += durations[task];
+          startMinuteSum += start;
+        }
+      }
+      evaluated.incrementAndGet();
+      return new Candidate(plan, starts, placedPerLevel, placedMinutes, startMinuteSum);
+    }
+
+    // Start of the gap that leaves the least room over, so long gaps stay free for long tasks.
+    private int bestFit(OccupancyBitmap timeline, int task) {
+      int duration = durations[task];
+      int limit = latest[task];
+      int best = -1;
+      int bestLeftover = Integer.MAX_VALUE;
+      int position = timeline.findFreeRun(earliest[task], duration, limit);
+      while (position >= 0) {
+        int gapEnd = timeline.nextOccupiedMinute(position, limit);
+        int leftover = gapEnd - position - duration;
+        if (leftover < bestLeftover) {
+          best = position;
+          bestLeftover = leftover;
+          if (leftover == 0) {
+            break;
+          }
+        }
+        position = timeline.findFreeRun(gapEnd, duration, limit);
+      }
+      return best;
+    }
+
+    // Odd and even plans share a shuffle, so each order is tried with both fit rules.
+    private int[] shuffledOrder(int plan) {
+      int[] order = baseOrder.clone();
+      Random random = new Random(SEED + plan / 2);
+      for (int group = 0; group + 1 < groupBounds.length; group++) {
+        int from = groupBounds[group];
+        for (int i = groupBounds[group + 1] - 1; i > from; i--) {
+          int j = from + random.nextInt(i - from + 1);
+          int swap = order[i];
+          order[i] = order[j];
+          order[j] = swap;
+        }
+      }
+      return order;
+    }
+  }
+
+  private static final class PlanSearch extends RecursiveTask<Candidate> {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Problem problem;
+    private final int fromPlan;
+    private final int toPlan;
+
+    private PlanSearch(Problem problem, int fromPlan, int toPlan) {
+      this.problem = problem;
+      this.fromPlan = fromPlan;
+      this.toPlan = toPlan;
+    }
+
+    @Override
+    protected Candidate compute() {
+      if (toPlan - fromPlan <= PLANS_PER_LEAF) {
+        return searchSequentially();
+      }
+      int middle = (fromPlan + toPlan) >>> 1;
+      PlanSearch upper = new PlanSearch(problem, middle, toPlan);
+      upper.fork();
+      Candidate lower = new PlanSearch(problem, fromPlan, middle).compute();
+      return better(lower, upper.join());
+    }
+
+    private Candidate searchSequentially() {
+      Candidate best = null;
+      for (int plan = fromPlan; plan < toPlan && System.nanoTime() < problem.deadline; plan++) {
+        best = better(best, problem.evaluate(plan));
+      }
+      return best;
+    }
+  }
+}
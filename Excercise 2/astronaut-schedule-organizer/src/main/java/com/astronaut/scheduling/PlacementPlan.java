@@ -0,0 +1,45 @@
+package com.astronaut.scheduling;
+
+// The chosen start minute of each task, by its position in the planned list.
+public class PlacementPlan {
+  public static final int UNPLACED = -1;
+
+  private final int[] startMinutes;
+  private final int placedCount;
+  private final int plansEvaluated;
+  private final long elapsedNanos;
+
+  PlacementPlan(int[] startMinutes, int plansEvaluated, long elapsedNanos) {
+    this.startMinutes = startMinutes;
+    int placed = 0;
+    for (int start : startMinutes) {
+      if (start != UNPLACED) {
+        placed++;
+      }
+    }
+    this.placedCount = placed;
+    this.plansEvaluated = plansEvaluated;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  // Minute of the day the task starts at, or UNPLACED when no plan found room for it.
+  public int getStartMinute(int taskIndex) {
+    return startMinutes[taskIndex];
+  }
+
+  public int getTaskCount() {
+    return startMinutes.length;
+  }
+
+  public int getPlacedCount() {
+    return placedCount;
+  }
+
+  public int getPlansEvaluated() {
+    return plansEvaluated;
+  }
+
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+}
@@ -0,0 +1,181 @@
+package com.astronaut.services;
+
+import com.astronaut.exceptions.InvalidRecordException;
+import com.astronaut.io.ScheduleFileFormat;
+import com.astronaut.io.TaskRecordReader;
+import com.astronaut.io.TaskRecordWriter;
+import com.astronaut.models.BatchMode;
+import com.astronaut.models.BatchRowResult;
+import com.astronaut.models.BatchRowStatus;
+import com.astronaut.models.ExportResult;
+import com.astronaut.models.ImportResult;
+import com.astronaut.models.Task;
+import com.astronaut.models.TaskAttachment;
+import com.astronaut.models.TaskInput;
+import com.astronaut.utils.Logger;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class ScheduleFileService {
+  private static final int CHUNK_ROWS = 4096;
+  private static final int MAX_REPORTED_FAILURES = 1000;
+
+  private final TaskService taskService;
+  private final Logger logger;
+
+  public ScheduleFileService(TaskService taskService) {
+    this.taskService = taskService;
+    this.logger = Logger.getInstance();
+  }
+
+  public ImportResult importTasks(Path path, BatchMode mode) throws IOException {
+    return importTasks(path, ScheduleFileFormat.fromFileName(path.getFileName().toString()), mode);
+  }
+
+  // BEST_EFFORT streams the file through the batch path CHUNK_ROWS rows at a time, so memory
+  // stays flat however long the file is. ALL_OR_NOTHING has to see every row before it may
+  // commit, so the whole file becomes one batch.
+  public ImportResult importTasks(Path path, ScheduleFileFormat format, BatchMode mode) throws IOException {
+    if (path == null || format == null || mode == null) {
+      throw new IllegalArgumentException("Path, format and batch mode cannot be null");
+    }
+    long started = System.nanoTime();
+    int chunkLimit = mode == BatchMode.BEST_EFFORT ? CHUNK_ROWS : Integer.MAX_VALUE;
+    ImportProgress progress = new ImportProgress(mode);
+    try (TaskRecordReader reader = format.openReader(path)) {
+      while (true) {
+        TaskInput input;
+        try {
+          input = reader.read();
+        } catch (InvalidRecordException e) {
+          progress.readFailed(e.getMessage());
+          continue;
+        }
+        if (input == null) {
+          break;
+        }
+        progress.readSucceeded(input);
+        if (progress.pendingRows() >= chunkLimit) {
+          progress.flush();
+        }
+      }
+    }
+    progress.flush();
+
+    ImportResult result = progress.toResult(System.nanoTime() - started);
+    if (logger.isInfoEnabled()) {
+      logger.info(
+          String.format(
+              "Imported %d of %d rows from %s in %d ms (%.0f rows/sec)",
+              result.getAddedCount(),
+              result.getRowsRead(),
+              path,
+              result.getElapsedNanos() / 1_000_000,
+              result.getRowsPerSecond()));
+    }
+    return result;
+  }
+
+  public ExportResult exportTasks(Path path) throws IOException {
+    return exportTasks(path, ScheduleFileFormat.fromFileName(path.getFileName().toString()));
+  }
+
+  public ExportResult exportTasks(Path path, ScheduleFileFormat format) throws IOException {
+    if (path == null || format == null) {
+      throw new IllegalArgumentException("Path and format cannot be null");
+    }
+    long started = System.nanoTime();
+    List<Task> tasks = taskService.viewAllTasks();
+    try (TaskRecordWriter writer = format.openWriter(path)) {
+      for (Task task : tasks) {
+        writer.write(
+            task,
+            taskService.getAttachment(task.getId(), TaskAttachment.NOTES).orElse(null),
+            taskService.getAttachment(task.getId(), TaskAttachment.REMINDER_MINUTES).orElse(null));
+      }
+    }
+    ExportResult result = new ExportResult(tasks.size(), System.nanoTime() - started);
+    if (logger.isInfoEnabled()) {
+      logger.info(
+          String.format(
+              "Exported %d rows to %s in %d ms (%.0f rows/sec)",
+              result.getRowsWritten(),
+              path,
+              result.getElapsedNanos() / 1_000_000,
+              result.getRowsPerSecond()));
+    }
+    return result;
+  }
+
+  // Rows read since the last flush, plus the running totals. Rows that fail to parse are kept
+  // only as failures, but still take a row number so reports match the file.
+  private final class ImportProgress {
+    private final BatchMode mode;
+    private final List<TaskInput> pending;
+    private final List<Integer> pendingRows;
+    private final List<BatchRowResult> pendingFailures;
+    private final List<BatchRowResult> failures;
+    private int rowsRead;
+    private int addedCount;
+    private int failedCount;
+
+    private ImportProgress(BatchMode mode) {
+      this.mode = mode;
+      this.pending = new ArrayList<>();
+      this.pendingRows = new ArrayList<>();
+      this.pendingFailures = new ArrayList<>();
+      this.failures = new ArrayList<>();
+    }
+
+    private void readSucceeded(TaskInput input) {
+      pending.add(input);
+      pendingRows.add(rowsRead++);
+    }
+
+    private void readFailed(String message) {
+      pendingFailures.add(new BatchRowResult(rowsRead++, BatchRowStatus.INVALID, null, message));
+    }
+
+    private int pendingRows() {
+      return pending.size() + pendingFailures.size();
+    }
+
+    private void flush() {
+      if (pending.isEmpty() && pendingFailures.isEmpty()) {
+        return;
+      }
+      if (mode == BatchMode.ALL_OR_NOTHING && !pendingFailures.isEmpty()) {
+        String message = "Import not committed: " + pendingFailures.size() + " rows failed";
+        for (int i = 0; i < pending.size(); i++) {
+          pendingFailures.add(new BatchRowResult(pendingRows.get(i), BatchRowStatus.NOT_COMMITTED, null, message));
+        }
+      } else if (!pending.isEmpty()) {
+        for (BatchRowResult row : taskService.addTasks(pending, mode).getRows()) {
+          if (row.getStatus() == BatchRowStatus.ADDED) {
+            addedCount++;
+          } else {
+            pendingFailures.add(
+                new BatchRowResult(pendingRows.get(row.getRow()), row.getStatus(), row.getTask(), row.getMessage()));
+          }
+        }
+      }
+      pendingFailures.sort(Comparator.comparingInt(BatchRowResult::getRow));
+      failedCount += pendingFailures.size();
+      for (BatchRowResult failure : pendingFailures) {
+        if (failures.size() < MAX_REPORTED_FAILURES) {
+          failures.add(failure);
+        }
+      }
+      pending.clear();
+      pendingRows.clear();
+      pendingFailures.clear();
+    }
+
+    private ImportResult toResult(long elapsedNanos) {
+      return new ImportResult(mode, rowsRead, addedCount, failedCount, failures, elapsedNanos);
+    }
+  }
+}
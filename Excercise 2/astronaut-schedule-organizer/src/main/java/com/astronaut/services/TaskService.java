@@ -3,26 +3,64 @@ package com.astronaut.services;
 import com.astronaut.exceptions.InvalidTimeException;
 import com.astronaut.exceptions.TaskConflictException;
 import com.astronaut.exceptions.TaskNotFoundException;
+import com.astronaut.index.OccupancyBitmap;
+import com.astronaut.models.AutoScheduleResult;
+import com.astronaut.models.BatchMode;
+import com.astronaut.models.BatchResult;
+import com.astronaut.models.BatchRowResult;
+import com.astronaut.models.BatchRowStatus;
+import com.astronaut.models.FlexibleTask;
+import com.astronaut.models.PreemptionResult;
 import com.astronaut.models.Priority;
 import com.astronaut.models.Task;
+import com.astronaut.models.TaskAttachment;
+import com.astronaut.models.TaskInput;
+import com.astronaut.models.TaskStatus;
 import com.astronaut.patterns.behavioral.strategy.PrioritySortStrategy;
 import com.astronaut.patterns.behavioral.strategy.StartTimeSortStrategy;
 import com.astronaut.patterns.creational.factory.TaskFactory;
+import com.astronaut.patterns.creational.factory.TaskValidator;
 import com.astronaut.patterns.creational.singleton.ScheduleManager;
 import com.astronaut.patterns.structural.adapter.TimeFormatAdapter;
 import com.astronaut.patterns.structural.decorator.NotesDecorator;
 import com.astronaut.patterns.structural.decorator.ReminderDecorator;
+import com.astronaut.patterns.structural.decorator.TaskDecorator;
+import com.astronaut.reminders.ReminderScheduler;
+import com.astronaut.scheduling.AutoScheduleConfig;
+import com.astronaut.scheduling.AutoScheduler;
+import com.astronaut.scheduling.PlacementPlan;
+import com.astronaut.utils.InputValidator;
 import com.astronaut.utils.Logger;
+import com.astronaut.utils.TimeValidator;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
 
 public class TaskService {
+  // Below this many rows, splitting the parse across threads costs more than it saves.
+  private static final int PARALLEL_PARSE_THRESHOLD = 1024;
+
   private final ScheduleManager scheduleManager;
+  private final ReminderScheduler reminderScheduler;
   private final TaskFactory taskFactory;
+  private final TaskValidator taskValidator;
   private final Logger logger;
 
   public TaskService() {
+    this(ReminderScheduler.getInstance());
+  }
+
+  public TaskService(ReminderScheduler reminderScheduler) {
+    if (reminderScheduler == null) {
+      throw new IllegalArgumentException("Reminder scheduler cannot be null");
+    }
     this.scheduleManager = ScheduleManager.getInstance();
+    this.reminderScheduler = reminderScheduler;
     this.taskFactory = new TaskFactory();
+    this.taskValidator = new TaskValidator();
     this.logger = Logger.getInstance();
   }
 
@@ -32,11 +70,168 @@ public class TaskService {
     scheduleManager.addTask(task);
   }
 
+  // Adds the task even where lower-priority tasks already sit; they move to the nearest free time.
+  public PreemptionResult addTaskWithPreemption(String description, String startTime, String endTime, String priority)
+      throws InvalidTimeException, TaskConflictException {
+    Task task = taskFactory.createTask(description, startTime, endTime, priority);
+    return scheduleManager.addTaskWithPreemption(task);
+  }
+
+  // Parses every row (in parallel for large batches), then hands the valid tasks to the schedule
+  // in one call. Rows that fail to parse are reported as INVALID; in ALL_OR_NOTHING mode they
+  // stop the batch before the schedule is touched.
+  public BatchResult addTasks(List<TaskInput> inputs, BatchMode mode) {
+    if (inputs == null || mode == null) {
+      throw new IllegalArgumentException("Batch and batch mode cannot be null");
+    }
+    int size = inputs.size();
+    Task[] parsed = new Task[size];
+    String[] errors = new String[size];
+    IntStream rows = IntStream.range(0, size);
+    if (size >= PARALLEL_PARSE_THRESHOLD) {
+      rows = rows.parallel();
+    }
+    rows.forEach(
+        row -> {
+          TaskInput input = inputs.get(row);
+          if (input == null) {
+            errors[row] = "Task input cannot be null";
+            return;
+          }
+          try {
+            parsed[row] = parseTaskInput(input);
+          } catch (InvalidTimeException | IllegalArgumentException e) {
+            errors[row] = e.getMessage();
+          }
+        });
+
+    List<Task> valid = new ArrayList<>(size);
+    int[] rowOfValid = new int[size];
+    for (int row = 0; row < size; row++) {
+      if (parsed[row] != null) {
+        rowOfValid[valid.size()] = row;
+        valid.add(parsed[row]);
+      }
+    }
+    int invalidCount = size - valid.size();
+
+    BatchRowResult[] results = new BatchRowResult[size];
+    if (mode == BatchMode.ALL_OR_NOTHING && invalidCount > 0) {
+      for (int row = 0; row < size; row++) {
+        results[row] =
+            parsed[row] == null
+                ? new BatchRowResult(row, BatchRowStatus.INVALID, null, errors[row])
+                : new BatchRowResult(
+                    row, BatchRowStatus.NOT_COMMITTED, parsed[row], "Batch not committed: " + invalidCount + " rows failed");
+      }
+      logger.warn("Batch rejected: {} of {} rows invalid", invalidCount, size);
+      return new BatchResult(mode, Arrays.asList(results));
+    }
+
+    for (int row = 0; row < size; row++) {
+      if (parsed[row] == null) {
+        results[row] = new BatchRowResult(row, BatchRowStatus.INVALID, null, errors[row]);
+      }
+    }
+    for (BatchRowResult result : scheduleManager.addTasks(valid, mode).getRows()) {
+      int row = rowOfValid[result.getRow()];
+      results[row] = new BatchRowResult(row, result.getStatus(), result.getTask(), result.getMessage());
+      if (result.getStatus() == BatchRowStatus.ADDED) {
+        TaskInput input = inputs.get(row);
+        if (!InputValidator.isNullOrEmpty(input.getNotes())) {
+          attach(result.getTask(), TaskAttachment.NOTES, input.getNotes());
+        }
+        if (input.getReminderMinutes() != null) {
+          attach(result.getTask(), TaskAttachment.REMINDER_MINUTES, input.getReminderMinutes());
+          reminderScheduler.schedule(result.getTask(), input.getReminderMinutes());
+        }
+      }
+    }
+    return new BatchResult(mode, Arrays.asList(results));
+  }
+
+  private Task parseTaskInput(TaskInput input) throws InvalidTimeException {
+    Task task =
+        taskFactory.createTask(
+            taskValidator.validateTaskInput(
+                input.getDescription(), input.getStartTime(), input.getEndTime(), input.getPriority()));
+    // Not yet in the schedule, so setting the status here is not a mutation of a published task.
+    if (!InputValidator.isNullOrEmpty(input.getStatus())) {
+      task.setStatus(TaskStatus.fromString(input.getStatus()));
+    }
+    return task;
+  }
+
+  public AutoScheduleResult autoSchedule(List<FlexibleTask> tasks) {
+    return autoSchedule(tasks, AutoScheduleConfig.defaults());
+  }
+
+  // Finds room for each task inside its window, higher priorities first, planning against a copy
+  // of the schedule's free minutes so writers are not blocked while it searches. The placed tasks
+  // are then added as one batch; one whose slot was taken since the plan was made comes back as
+  // unplaced.
+  public AutoScheduleResult autoSchedule(List<FlexibleTask> tasks, AutoScheduleConfig config) {
+    if (tasks == null || config == null) {
+      throw new IllegalArgumentException("Tasks and auto-schedule config cannot be null");
+    }
+    long started = System.nanoTime();
+    PlacementPlan plan = new AutoScheduler(config).plan(tasks, scheduleManager.copyOccupancy());
+    List<Task> planned = new ArrayList<>(plan.getPlacedCount());
+    List<FlexibleTask> sources = new ArrayList<>(plan.getPlacedCount());
+    List<FlexibleTask> unplaced = new ArrayList<>();
+    for (int i = 0; i < tasks.size(); i++) {
+      FlexibleTask flexible = tasks.get(i);
+      int start = plan.getStartMinute(i);
+      if (start == PlacementPlan.UNPLACED) {
+        unplaced.add(flexible);
+        continue;
+      }
+      planned.add(
+          new Task(
+              flexible.getDescription(),
+              OccupancyBitmap.toLocalTime(start),
+              OccupancyBitmap.toLocalTime(start + flexible.getDurationMinutes()),
+              flexible.getPriority()));
+      sources.add(flexible);
+    }
+    List<Task> placed = new ArrayList<>(planned.size());
+    for (BatchRowResult row : scheduleManager.addTasks(planned, BatchMode.BEST_EFFORT).getRows()) {
+      if (row.getStatus() == BatchRowStatus.ADDED) {
+        placed.add(row.getTask());
+      } else {
+        unplaced.add(sources.get(row.getRow()));
+      }
+    }
+    AutoScheduleResult result =
+        new AutoScheduleResult(placed, unplaced, plan.getPlansEvaluated(), System.nanoTime() - started);
+    if (logger.isInfoEnabled()) {
+      logger.info(
+          String.format(
+              "Auto-scheduled %d of %d tasks in %d ms (%d plans compared)",
+              placed.size(),
+              tasks.size(),
+              result.getElapsedNanos() / 1_000_000,
+              result.getPlansEvaluated()));
+    }
+    return result;
+  }
+
+  public AutoScheduleResult autoScheduleTask(
+      String description, int durationMinutes, String priority, String earliestStart, String latestEnd)
+      throws InvalidTimeException {
+    LocalTime earliest = TimeValidator.validateAndParseTime(earliestStart);
+    LocalTime latest = TimeValidator.validateAndParseTime(latestEnd);
+    TimeValidator.validateTimeRange(earliest, latest);
+    FlexibleTask task = new FlexibleTask(description, durationMinutes, Priority.fromString(priority), earliest, latest);
+    return autoSchedule(List.of(task));
+  }
+
   public void addTaskWithAdapter(
       String description, String startTime, String endTime, String priority, TimeFormatAdapter adapter)
       throws InvalidTimeException, TaskConflictException {
     var startLocalTime = adapter.convertToLocalTime(startTime);
     var endLocalTime = adapter.convertToLocalTime(endTime);
+    TimeValidator.validateTimeRange(startLocalTime, endLocalTime);
     Task task = new Task(description, startLocalTime, endLocalTime, Priority.fromString(priority));
     scheduleManager.addTask(task);
   }
@@ -45,16 +240,30 @@ public class TaskService {
     scheduleManager.removeTask(description);
   }
 
+  public void removeTaskById(String id) throws TaskNotFoundException {
+    scheduleManager.removeTaskById(id);
+  }
+
   public void updateTask(String oldDescription, String newDescription, String startTime, String endTime, String priority)
       throws InvalidTimeException, TaskNotFoundException, TaskConflictException {
     Task updatedTask = taskFactory.createTask(newDescription, startTime, endTime, priority);
     scheduleManager.updateTask(oldDescription, updatedTask);
   }
 
+  public void updateTaskById(String id, String newDescription, String startTime, String endTime, String priority)
+      throws InvalidTimeException, TaskNotFoundException, TaskConflictException {
+    Task updatedTask = taskFactory.createTask(newDescription, startTime, endTime, priority);
+    scheduleManager.updateTaskById(id, updatedTask);
+  }
+
   public void markTaskCompleted(String description) throws TaskNotFoundException {
     scheduleManager.markTaskCompleted(description);
   }
 
+  public void markTaskCompletedById(String id) throws TaskNotFoundException {
+    scheduleManager.markTaskCompletedById(id);
+  }
+
   public List<Task> viewAllTasks() {
     return scheduleManager.getAllTasks();
   }
@@ -63,6 +272,24 @@ public class TaskService {
     return scheduleManager.getTasksByPriority(priority);
   }
 
+  public List<Task> viewTasksOverlapping(String startTime, String endTime) throws InvalidTimeException {
+    var startLocalTime = TimeValidator.validateAndParseTime(startTime);
+    var endLocalTime = TimeValidator.validateAndParseTime(endTime);
+    TimeValidator.validateTimeRange(startLocalTime, endLocalTime);
+    return scheduleManager.getTasksOverlapping(startLocalTime, endLocalTime);
+  }
+
+  public boolean isSlotFree(String startTime, String endTime) throws InvalidTimeException {
+    var startLocalTime = TimeValidator.validateAndParseTime(startTime);
+    var endLocalTime = TimeValidator.validateAndParseTime(endTime);
+    TimeValidator.validateTimeRange(startLocalTime, endLocalTime);
+    return scheduleManager.isSlotFree(startLocalTime, endLocalTime);
+  }
+
+  public Optional<LocalTime> findNextFreeSlot(String notBefore, int durationMinutes) throws InvalidTimeException {
+    return scheduleManager.findNextFreeSlot(TimeValidator.validateAndParseTime(notBefore), durationMinutes);
+  }
+
   public void setSortByStartTime() {
     scheduleManager.setSortStrategy(new StartTimeSortStrategy());
     logger.info("Sort strategy set to: Start Time");
@@ -73,20 +300,60 @@ public class TaskService {
     logger.info("Sort strategy set to: Priority");
   }
 
-  public Task addTaskWithReminder(
+  public TaskDecorator addTaskWithReminder(
       String description, String startTime, String endTime, String priority, int reminderMinutes)
       throws InvalidTimeException, TaskConflictException {
+    if (reminderMinutes < 0) {
+      throw new IllegalArgumentException("Reminder minutes cannot be negative");
+    }
     Task task = taskFactory.createTask(description, startTime, endTime, priority);
     scheduleManager.addTask(task);
-    return new ReminderDecorator(task, reminderMinutes);
+    attach(task, TaskAttachment.REMINDER_MINUTES, reminderMinutes);
+    // Updating the task moves the reminder; removing or completing it cancels it.
+    if (!reminderScheduler.schedule(task, reminderMinutes)) {
+      logger.info("Reminder not set: {} has already started today", task.getDescription());
+    }
+    return withAttachments(task);
   }
 
-  public Task addTaskWithNotes(
+  public TaskDecorator addTaskWithNotes(
       String description, String startTime, String endTime, String priority, String notes)
       throws InvalidTimeException, TaskConflictException {
     Task task = taskFactory.createTask(description, startTime, endTime, priority);
     scheduleManager.addTask(task);
-    return new NotesDecorator(task, notes);
+    attach(task, TaskAttachment.NOTES, notes);
+    return withAttachments(task);
+  }
+
+  // The task as stored now, decorated with its notes and reminder for display.
+  public Optional<TaskDecorator> getTaskDetails(String id) {
+    return scheduleManager.getTaskById(id).map(this::withAttachments);
+  }
+
+  public <T> Optional<T> getAttachment(String taskId, TaskAttachment<T> key) {
+    return scheduleManager.getAttachment(taskId, key);
+  }
+
+  private TaskDecorator withAttachments(Task task) {
+    TaskDecorator view = new TaskDecorator(task);
+    Optional<String> notes = scheduleManager.getAttachment(task.getId(), TaskAttachment.NOTES);
+    if (notes.isPresent()) {
+      view = new NotesDecorator(view, notes.get());
+    }
+    Optional<Integer> reminderMinutes = scheduleManager.getAttachment(task.getId(), TaskAttachment.REMINDER_MINUTES);
+    if (reminderMinutes.isPresent()) {
+      view = new ReminderDecorator(view, reminderMinutes.get());
+    }
+    return view;
+  }
+
+  private <T> void attach(Task task, TaskAttachment<T> key, T value) {
+    try {
+      scheduleManager.setAttachment(task.getId(), key, value);
+    } catch (TaskNotFoundException e) {
+      // Removed by someone else straight after it was added; nothing left to attach to.
+      logger.debug("Attachment {} dropped: {}", key, e.getMessage());
+    }
   }
 
   public int getTaskCount() {
@@ -0,0 +1,461 @@
+package com.astronaut.store;
+
+import com.astronaut.models.Priority;
+import com.astronaut.models.Task;
+import com.astronaut.models.TaskStatus;
+import com.astronaut.utils.TaskIds;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+// Task storage for long histories: one primitive array per field instead of one object graph
+// per task. A row costs 4 + 4 + 1 + 1 + 8 + 4 = 22 bytes plus its share of the interned
+// descriptions, against well over 200 bytes for a Task with a UUID id and two LocalTimes.
+// Ids that are plain non-negative decimal numbers, as monotonic ids are, are packed into the
+// long column; any other id (such as a UUID) is kept in a side table. Ids are unique, and an
+// open-addressing table of row numbers hashed by id, at most three-quarters full, finds a row
+// by id without a scan for another 4 bytes per slot. Interned descriptions are never released,
+// which suits history where the same activities recur. Times are whole minutes, like
+// MappedSchedule. Rows are unordered: removal moves the last row into the gap.
+public final class ColumnarSchedule implements ScheduleView {
+  private static final int INITIAL_CAPACITY = 64;
+  private static final long SIDE_TABLE_ID = -1;
+  private static final int EMPTY_SLOT = -1;
+  private static final Priority[] PRIORITIES = Priority.values();
+  private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+  private final Map<Integer, String> sideTableIds;
+  private final List<String> descriptions;
+  private final Map<String, Integer> descriptionCodes;
+  private final Lock readLock;
+  private final Lock writeLock;
+  private int size;
+  private int[] startMinutes;
+  private int[] endMinutes;
+  private byte[] priorities;
+  private byte[] statuses;
+  private long[] ids;
+  private int[] descriptionIndexes;
+  private int[] rowsById;
+
+  public ColumnarSchedule() {
+    this.sideTableIds = new HashMap<>();
+    this.descriptions = new ArrayList<>();
+    this.descriptionCodes = new HashMap<>();
+    ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    this.readLock = lock.readLock();
+    this.writeLock = lock.writeLock();
+    this.startMinutes = new int[INITIAL_CAPACITY];
+    this.endMinutes = new int[INITIAL_CAPACITY];
+    this.priorities = new byte[INITIAL_CAPACITY];
+    this.statuses = new byte[INITIAL_CAPACITY];
+    this.ids = new long[INITIAL_CAPACITY];
+    this.descriptionIndexes = new int[INITIAL_CAPACITY];
+    this.rowsById = new int[INITIAL_CAPACITY * 2];
+    Arrays.fill(rowsById, EMPTY_SLOT);
+  }
+
+  public void add(Task task) {
+    writeLock.lock();
+    try {
+      ensureCapacity(size + 1);
+      append(task);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  // Adds every task or, if one cannot be stored, none of them.
+  public void addAll(Collection<Task> tasks) {
+    if (tasks == null) {
+      throw new IllegalArgumentException("Tasks cannot be null");
+    }
+    Set<String> batchIds = new HashSet<>();
+    for (Task task : tasks) {
+      validate(task);
+      if (!batchIds.add(task.getId())) {
+        throw new IllegalArgumentException("Duplicate task id: " + task.getId());
+      }
+    }
+    writeLock.lock();
+    try {
+      for (Task task : tasks) {
+        requireNewId(task.getId());
+      }
+      ensureCapacity(size + tasks.size());
+      for (Task task : tasks) {
+        append(task);
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  public boolean remove(String id) {
+    if (id == null) {
+      return false;
+    }
+    writeLock.lock();
+    try {
+      int slot = findSlot(id);
+      if (slot < 0) {
+        return false;
+      }
+      int row = rowsById[slot];
+      removeSlot(slot);
+      int last = size - 1;
+      if (row != last) {
+        rowsById[slotOfRow(last)] = row;
+      }
+      sideTableIds.remove(row);
+      if (row != last) {
+        startMinutes[row] = startMinutes[last];
+        endMinutes[row] = endMinutes[last];
+        priorities[row] = priorities[last];
+        statuses[row] = statuses[last];
+        ids[row] = ids[last];
+        descriptionIndexes[row] = descriptionIndexes[last];
+        String movedId = sideTableIds.remove(last);
+        if (movedId != null) {
+          sideTableIds.put(row, movedId);
+        }
+      }
+      size = last;
+      return true;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  public void clear() {
+    writeLock.lock();
+    try {
+      size = 0;
+      sideTableIds.clear();
+      Arrays.fill(rowsById, EMPTY_SLOT);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  @Override
+  public int getTaskCount() {
+    readLock.lock();
+    try {
+      return size;
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  // Builds a Task for every row; prefer forEachRow for scans that only read fields.
+  @Override
+  public List<Task> getAllTasks() {
+    readLock.lock();
+    try {
+      List<Task> tasks = new ArrayList<>(size);
+      for (int row = 0; row < size; row++) {
+        tasks.add(toTask(row));
+      }
+      return tasks;
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  @Override
+  public Optional<Task> getTaskById(String id) {
+    if (id == null) {
+      return Optional.empty();
+    }
+    readLock.lock();
+    try {
+      int row = findRow(id);
+      return row < 0 ? Optional.empty() : Optional.of(toTask(row));
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  @Override
+  public List<Task> getTasksByPriority(Priority priority) {
+    List<Task> result = new ArrayList<>();
+    if (priority == null) {
+      return result;
+    }
+    byte code = (byte) priority.ordinal();
+    readLock.lock();
+    try {
+      for (int row = 0; row < size; row++) {
+        if (priorities[row] == code) {
+          result.add(toTask(row));
+        }
+      }
+      return result;
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  @Override
+  public List<Task> getTasksOverlapping(LocalTime startTime, LocalTime endTime) {
+    List<Task> result = new ArrayList<>();
+    scanOverlapping(startTime, endTime, row -> result.add(toTask(row)), false);
+    return result;
+  }
+
+  @Override
+  public boolean isSlotFree(LocalTime startTime, LocalTime endTime) {
+    return scanOverlapping(startTime, endTime, row -> {}, true) == 0;
+  }
+
+  // Visits every row through one reused TaskRow, so a scan allocates nothing per task. The row
+  // is only valid inside the callback; call toTask() to keep it.
+  public void forEachRow(Consumer<TaskRow> action) {
+    if (action == null) {
+      throw new IllegalArgumentException("Action cannot be null");
+    }
+    readLock.lock();
+    try {
+      TaskRow cursor = new TaskRow();
+      for (int row = 0; row < size; row++) {
+        cursor.row = row;
+        action.accept(cursor);
+      }
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  public int getDistinctDescriptionCount() {
+    readLock.lock();
+    try {
+      return descriptions.size();
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  // Flyweight over one row of the columns.
+  public final class TaskRow {
+    private int row;
+
+    private TaskRow() {}
+
+    public String getId() {
+      return idAt(row);
+    }
+
+    public String getDescription() {
+      return descriptions.get(descriptionIndexes[row]);
+    }
+
+    public int getStartMinute() {
+      return startMinutes[row];
+    }
+
+    public int getEndMinute() {
+      return endMinutes[row];
+    }
+
+    public LocalTime getStartTime() {
+      return MinuteOfDay.toLocalTime(startMinutes[row]);
+    }
+
+    public LocalTime getEndTime() {
+      return MinuteOfDay.toLocalTime(endMinutes[row]);
+    }
+
+    public Priority getPriority() {
+      return PRIORITIES[priorities[row]];
+    }
+
+    public TaskStatus getStatus() {
+      return STATUSES[statuses[row]];
+    }
+
+    public Task toTask() {
+      return ColumnarSchedule.this.toTask(row);
+    }
+  }
+
+  private int scanOverlapping(LocalTime startTime, LocalTime endTime, RowAction action, boolean stopAtFirst) {
+    if (startTime == null || endTime == null) {
+      throw new IllegalArgumentException("Start time and end time cannot be null");
+    }
+    long from = startTime.toNanoOfDay();
+    long to = endTime.toNanoOfDay();
+    int found = 0;
+    readLock.lock();
+    try {
+      for (int row = 0; row < size; row++) {
+        if (MinuteOfDay.toNanos(startMinutes[row]) < to && MinuteOfDay.toNanos(endMinutes[row]) > from) {
+          action.accept(row);
+          found++;
+          if (stopAtFirst) {
+            break;
+          }
+        }
+      }
+      return found;
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  private interface RowAction {
+    void accept(int row);
+  }
+
+  // The helpers below expect the caller to hold the lock.
+
+  private void append(Task task) {
+    validate(task);
+    requireNewId(task.getId());
+    int row = size;
+    startMinutes[row] = MinuteOfDay.of(task.getStartTime());
+    endMinutes[row] = MinuteOfDay.of(task.getEndTime());
+    priorities[row] = (byte) task.getPriority().ordinal();
+    statuses[row] = (byte) task.getStatus().ordinal();
+    long packedId = TaskIds.parseNumericId(task.getId());
+    ids[row] = packedId;
+    if (packedId == SIDE_TABLE_ID) {
+      sideTableIds.put(row, task.getId());
+    }
+    descriptionIndexes[row] = descriptionCodes.computeIfAbsent(task.getDescription(), this::newDescription);
+    insertSlot(row);
+    size++;
+  }
+
+  private int newDescription(String description) {
+    descriptions.add(description);
+    return descriptions.size() - 1;
+  }
+
+  private void requireNewId(String id) {
+    if (findSlot(id) >= 0) {
+      throw new IllegalArgumentException("Duplicate task id: " + id);
+    }
+  }
+
+  private int findRow(String id) {
+    int slot = findSlot(id);
+    return slot < 0 ? -1 : rowsById[slot];
+  }
+
+  // The id table probes linearly from the id's hash; an empty slot ends the search.
+  private int findSlot(String id) {
+    long packedId = TaskIds.parseNumericId(id);
+    int mask = rowsById.length - 1;
+    for (int slot = hash(packedId, id) & mask; ; slot = (slot + 1) & mask) {
+      int row = rowsById[slot];
+      if (row == EMPTY_SLOT) {
+        return -1;
+      }
+      if (ids[row] == packedId && (packedId != SIDE_TABLE_ID || sideTableIds.get(row).equals(id))) {
+        return slot;
+      }
+    }
+  }
+
+  private int slotOfRow(int row) {
+    int mask = rowsById.length - 1;
+    int slot = hashOfRow(row) & mask;
+    while (rowsById[slot] != row) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void insertSlot(int row) {
+    int mask = rowsById.length - 1;
+    int slot = hashOfRow(row) & mask;
+    while (rowsById[slot] != EMPTY_SLOT) {
+      slot = (slot + 1) & mask;
+    }
+    rowsById[slot] = row;
+  }
+
+  // Backward-shift deletion: later rows of the same probe run move up into the hole, so lookups
+  // never need tombstones.
+  private void removeSlot(int slot) {
+    int mask = rowsById.length - 1;
+    int hole = slot;
+    for (int next = (hole + 1) & mask; rowsById[next] != EMPTY_SLOT; next = (next + 1) & mask) {
+      int home = hashOfRow(rowsById[next]) & mask;
+      if (((next - home) & mask) >= ((next - hole) & mask)) {
+        rowsById[hole] = rowsById[next];
+        hole = next;
+      }
+    }
+    rowsById[hole] = EMPTY_SLOT;
+  }
+
+  private int hashOfRow(int row) {
+    long packedId = ids[row];
+    return hash(packedId, packedId == SIDE_TABLE_ID ? sideTableIds.get(row) : null);
+  }
+
+  private static int hash(long packedId, String id) {
+    long mixed = (packedId == SIDE_TABLE_ID ? id.hashCode() : packedId) * 0x9E3779B97F4A7C15L;
+    return (int) (mixed ^ (mixed >>> 32));
+  }
+
+  private String idAt(int row) {
+    long packedId = ids[row];
+    return packedId == SIDE_TABLE_ID ? sideTableIds.get(row) : Long.toString(packedId);
+  }
+
+  private Task toTask(int row) {
+    return new Task(
+        idAt(row),
+        descriptions.get(descriptionIndexes[row]),
+        MinuteOfDay.toLocalTime(startMinutes[row]),
+        MinuteOfDay.toLocalTime(endMinutes[row]),
+        PRIORITIES[priorities[row]],
+        STATUSES[statuses[row]]);
+  }
+
+  private void ensureCapacity(int required) {
+    if (required <= startMinutes.length) {
+      return;
+    }
+    int capacity = Math.max(required, startMinutes.length + (startMinutes.length >> 1));
+    startMinutes = Arrays.copyOf(startMinutes, capacity);
+    endMinutes = Arrays.copyOf(endMinutes, capacity);
+    priorities = Arrays.copyOf(priorities, capacity);
+    statuses = Arrays.copyOf(statuses, capacity);
+    ids = Arrays.copyOf(ids, capacity);
+    descriptionIndexes = Arrays.copyOf(descriptionIndexes, capacity);
+    int slots = rowsById.length;
+    while (capacity > slots - (slots >> 2)) {
+      slots <<= 1;
+    }
+    if (slots != rowsById.length) {
+      rowsById = new int[slots];
+      Arrays.fill(rowsById, EMPTY_SLOT);
+      for (int row = 0; row < size; row++) {
+        insertSlot(row);
+      }
+    }
+  }
+
+  private static void validate(Task task) {
+    if (task == null) {
+      throw new IllegalArgumentException("Task cannot be null");
+    }
+    if (MinuteOfDay.of(task.getStartTime()) < 0 || MinuteOfDay.of(task.getEndTime()) < 0) {
+      throw new IllegalArgumentException("Columnar schedules hold whole minutes only: " + task.getDescription());
+    }
+  }
+}
@@ -0,0 +1,368 @@
+package com.astronaut.store;
+
+import com.astronaut.models.Priority;
+import com.astronaut.models.Task;
+import com.astronaut.models.TaskStatus;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalTime;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Read-only schedule over a memory-mapped file, for archives too large to load as Task objects.
+// The file is a header, one 16-byte record per task sorted by start time, then a heap of
+// length-prefixed UTF-8 strings:
+//   record: start minute (short), end minute (short), priority (byte), status (byte),
+//           2 unused bytes, id heap offset (int), description heap offset (int)
+// Queries read records in place; a Task is only built when a caller gets it, then cached. Times
+// are whole minutes, so tasks with seconds cannot be stored. Archives are not schedules: tasks
+// in one file may overlap.
+public final class MappedSchedule implements ScheduleView {
+  private static final int MAGIC = 0x4153434D;
+  private static final byte FORMAT_VERSION = 1;
+  private static final int HEADER_BYTES = 24;
+  private static final int RECORD_BYTES = 16;
+  private static final int BUFFER_BYTES = 64 * 1024;
+  private static final Priority[] PRIORITIES = Priority.values();
+  private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+  private final Path file;
+  private final ByteBuffer buffer;
+  private final int count;
+  private final int maxDurationMinutes;
+  private final int heapStart;
+  private final AtomicReferenceArray<Task> materialized;
+  private final AtomicInteger materializedCount;
+  private final List<Task> tasks;
+
+  private MappedSchedule(Path file, ByteBuffer buffer, int count, int maxDurationMinutes, int heapStart) {
+    this.file = file;
+    this.buffer = buffer;
+    this.count = count;
+    this.maxDurationMinutes = maxDurationMinutes;
+    this.heapStart = heapStart;
+    this.materialized = new AtomicReferenceArray<>(count);
+    this.materializedCount = new AtomicInteger();
+    this.tasks = new LazyTaskList();
+  }
+
+  public static void write(Path file, Collection<Task> tasks) throws IOException {
+    if (file == null || tasks == null) {
+      throw new IllegalArgumentException("File and tasks cannot be null");
+    }
+    if (tasks.size() > (Integer.MAX_VALUE - HEADER_BYTES) / RECORD_BYTES) {
+      throw new IOException("Schedule is too large for one mapped file: " + tasks.size() + " tasks");
+    }
+    List<Task> sorted = new ArrayList<>(tasks);
+    sorted.sort(Comparator.comparing(Task::getStartTime));
+    ByteArrayOutputStream heap = new ByteArrayOutputStream();
+    DataOutputStream heapOut = new DataOutputStream(heap);
+    ByteBuffer records = ByteBuffer.allocate(sorted.size() * RECORD_BYTES);
+    int maxDuration = 0;
+    for (Task task : sorted) {
+      int start = MinuteOfDay.of(task.getStartTime());
+      int end = MinuteOfDay.of(task.getEndTime());
+      if (start < 0 || end < 0) {
+        throw new IllegalArgumentException("Mapped schedules hold whole minutes only: " + task.getDescription());
+      }
+      maxDuration = Math.max(maxDuration, end - start);
+      records.putShort((short) start).putShort((short) end);
+      records.put((byte) task.getPriority().ordinal()).put((byte) task.getStatus().ordinal()).putShort((short) 0);
+      records.putInt(writeString(heapOut, task.getId()));
+      records.putInt(writeString(heapOut, task.getDescription()));
+    }
+    long heapStart = HEADER_BYTES + (long) records.capacity();
+    if (heapStart + heap.size() > Integer.MAX_VALUE) {
+      throw new IOException("Schedule is too large for one mapped file: " + sorted.size() + " tasks");
+    }
+
+    ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+    header.putInt(MAGIC).put(FORMAT_VERSION).put(new byte[3]);
+    header.putInt(sorted.size()).putInt(maxDuration).putInt((int) heapStart).putInt(heap.size()).flip();
+    records.flip();
+    // A file that is still mapped must not be truncated, so the new one replaces it by rename.
+    Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+    try (FileChannel channel =
+        FileChannel.open(
+            temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      writeFully(channel, header);
+      writeFully(channel, records);
+      BufferedOutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_BYTES);
+      heap.writeTo(out);
+      out.flush();
+      channel.force(true);
+    }
+    try {
+      Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  // Maps the file without reading any task; only the header is checked up front.
+  public static MappedSchedule open(Path file) throws IOException {
+    if (file == null) {
+      throw new IllegalArgumentException("File cannot be null");
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+        throw new IOException("Not a mapped schedule file: " + file);
+      }
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      int count = buffer.getInt(8);
+      int maxDuration = buffer.getInt(12);
+      int heapStart = buffer.getInt(16);
+      int heapLength = buffer.getInt(20);
+      if (buffer.getInt(0) != MAGIC
+          || buffer.get(4) != FORMAT_VERSION
+          || count < 0
+          || heapStart != HEADER_BYTES + (long) count * RECORD_BYTES
+          || (long) heapStart + heapLength != size) {
+        throw new IOException("Not a mapped schedule file: " + file);
+      }
+      // The mapping stays valid after the channel is closed and is released with this object.
+      return new MappedSchedule(file, buffer, count, maxDuration, heapStart);
+    }
+  }
+
+  public Path getFile() {
+    return file;
+  }
+
+  @Override
+  public int getTaskCount() {
+    return count;
+  }
+
+  // Tasks in start-time order. The list is a view: a Task is built the first time it is read.
+  @Override
+  public List<Task> getAllTasks() {
+    return tasks;
+  }
+
+  public Task getTask(int index) {
+    if (index < 0 || index >= count) {
+      throw new IndexOutOfBoundsException("Task index " + index + " out of range for " + count + " tasks");
+    }
+    Task task = materialized.get(index);
+    if (task == null) {
+      Task built = materialize(index);
+      if (materialized.compareAndSet(index, null, built)) {
+        materializedCount.incrementAndGet();
+        task = built;
+      } else {
+        task = materialized.get(index);
+      }
+    }
+    return task;
+  }
+
+  // How many records have been turned into Task objects so far.
+  public int getMaterializedCount() {
+    return materializedCount.get();
+  }
+
+  // Compares ids as bytes in the heap, so only the matching task is built.
+  @Override
+  public Optional<Task> getTaskById(String id) {
+    if (id == null) {
+      return Optional.empty();
+    }
+    byte[] key = id.getBytes(StandardCharsets.UTF_8);
+    for (int index = 0; index < count; index++) {
+      if (stringEquals(buffer.getInt(recordOffset(index) + 8), key)) {
+        return Optional.of(getTask(index));
+      }
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public List<Task> getTasksByPriority(Priority priority) {
+    List<Task> result = new ArrayList<>();
+    if (priority == null) {
+      return result;
+    }
+    for (int index = 0; index < count; index++) {
+      if (buffer.get(recordOffset(index) + 4) == priority.ordinal()) {
+        result.add(getTask(index));
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public List<Task> getTasksOverlapping(LocalTime startTime, LocalTime endTime) {
+    if (startTime == null || endTime == null) {
+      throw new IllegalArgumentException("Start time and end time cannot be null");
+    }
+    List<Task> result = new ArrayList<>();
+    long from = startTime.toNanoOfDay();
+    long to = endTime.toNanoOfDay();
+    for (int index = firstCandidate(from), last = firstStartingAtOrAfter(to); index < last; index++) {
+      if (endNanos(index) > from) {
+        result.add(getTask(index));
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public boolean isSlotFree(LocalTime startTime, LocalTime endTime) {
+    if (startTime == null || endTime == null) {
+      throw new IllegalArgumentException("Start time and end time cannot be null");
+    }
+    long from = startTime.toNanoOfDay();
+    long to = endTime.toNanoOfDay();
+    for (int index = firstCandidate(from), last = firstStartingAtOrAfter(to); index < last; index++) {
+      if (endNanos(index) > from) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // No task lasts longer than maxDurationMinutes, so one still running at `from` cannot have
+  // started at or before from - maxDuration.
+  private int firstCandidate(long from) {
+    long earliestStart = from - maxDurationMinutes * MinuteOfDay.NANOS_PER_MINUTE;
+    int low = 0;
+    int high = count;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (startNanos(mid) <= earliestStart) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private int firstStartingAtOrAfter(long to) {
+    int low = 0;
+    int high = count;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (startNanos(mid) < to) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private long startNanos(int index) {
+    return MinuteOfDay.toNanos(buffer.getShort(recordOffset(index)));
+  }
+
+  private long endNanos(int index) {
+    return MinuteOfDay.toNanos(buffer.getShort(recordOffset(index) + 2));
+  }
+
+  private Task materialize(int index) {
+    int record = recordOffset(index);
+    int start = buffer.getShort(record);
+    int end = buffer.getShort(record + 2);
+    int priority = buffer.get(record + 4);
+    int status = buffer.get(record + 5);
+    if (start < 0
+        || end > MinuteOfDay.MINUTES_PER_DAY
+        || start >= end
+        || priority < 0
+        || priority >= PRIORITIES.length
+        || status < 0
+        || status >= STATUSES.length) {
+      throw new IllegalStateException("Corrupt record " + index + " in " + file);
+    }
+    return new Task(
+        readString(buffer.getInt(record + 8)),
+        readString(buffer.getInt(record + 12)),
+        MinuteOfDay.toLocalTime(start),
+        MinuteOfDay.toLocalTime(end),
+        PRIORITIES[priority],
+        STATUSES[status]);
+  }
+
+  private String readString(int heapOffset) {
+    int position = heapStringPosition(heapOffset);
+    int length = buffer.getInt(position);
+    if (length < 0 || length > buffer.limit() - position - Integer.BYTES) {
+      throw new IllegalStateException("Corrupt string at heap offset " + heapOffset + " in " + file);
+    }
+    byte[] bytes = new byte[length];
+    buffer.get(position + Integer.BYTES, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private boolean stringEquals(int heapOffset, byte[] key) {
+    int position = heapStringPosition(heapOffset);
+    if (buffer.getInt(position) != key.length || position + Integer.BYTES + key.length > buffer.limit()) {
+      return false;
+    }
+    for (int i = 0, from = position + Integer.BYTES; i < key.length; i++) {
+      if (buffer.get(from + i) != key[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int heapStringPosition(int heapOffset) {
+    if (heapOffset < 0 || heapOffset > buffer.limit() - heapStart - Integer.BYTES) {
+      throw new IllegalStateException("Corrupt heap offset " + heapOffset + " in " + file);
+    }
+    return heapStart + heapOffset;
+  }
+
+  private static int recordOffset(int index) {
+    return HEADER_BYTES + index * RECORD_BYTES;
+  }
+
+  private static int writeString(DataOutputStream heap, String value) throws IOException {
+    int offset = heap.size();
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    heap.writeInt(bytes.length);
+    heap.write(bytes);
+    return offset;
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer source) throws IOException {
+    while (source.hasRemaining()) {
+      channel.write(source);
+    }
+  }
+
+  private final class LazyTaskList extends AbstractList<Task> implements RandomAccess {
+    @Override
+    public Task get(int index) {
+      return getTask(index);
+    }
+
+    @Override
+    public int size() {
+      return count;
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package com.astronaut.store;
+
+import com.astronaut.index.OccupancyBitmap;
+import java.time.LocalTime;
+
+// Whole-minute times as used by the compact stores. Minute 1440 stands for LocalTime.MAX, the
+// end of the day.
+final class MinuteOfDay {
+  static final int MINUTES_PER_DAY = OccupancyBitmap.MINUTES_PER_DAY;
+  static final long NANOS_PER_MINUTE = 60_000_000_000L;
+
+  private MinuteOfDay() {}
+
+  // -1 when the time is not a whole minute.
+  static int of(LocalTime time) {
+    int minute = OccupancyBitmap.endMinute(time);
+    return OccupancyBitmap.toLocalTime(minute).equals(time) ? minute : -1;
+  }
+
+  static LocalTime toLocalTime(int minute) {
+    return OccupancyBitmap.toLocalTime(minute);
+  }
+
+  static long toNanos(int minute) {
+    return minute >= MINUTES_PER_DAY ? LocalTime.MAX.toNanoOfDay() : minute * NANOS_PER_MINUTE;
+  }
+}
@@ -0,0 +1,23 @@
+package com.astronaut.store;
+
+import com.astronaut.models.Priority;
+import com.astronaut.models.Task;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+// The read side of a schedule, shared by the live ScheduleManager and read-only stores so
+// reporting code can query either.
+public interface ScheduleView {
+  int getTaskCount();
+
+  List<Task> getAllTasks();
+
+  Optional<Task> getTaskById(String id);
+
+  List<Task> getTasksByPriority(Priority priority);
+
+  List<Task> getTasksOverlapping(LocalTime startTime, LocalTime endTime);
+
+  boolean isSlotFree(LocalTime startTime, LocalTime endTime);
+}
@@ -1,5 +1,7 @@
 package com.astronaut.ui;
 
+import com.astronaut.persistence.RecoveryResult;
+
 public class ConsoleUI {
   public static void displayWelcomeMessage() {
     System.out.println("\n╔═══════════════════════════════════════════╗");
@@ -19,4 +21,10 @@ public class ConsoleUI {
     System.out.println(" ✓ Adapter Pattern (Time Format Conversion)");
     System.out.println();
   }
+
+  public static void displayRecoveryInfo(RecoveryResult result) {
+    System.out.println(
+        "Saved schedule loaded: " + result.getTasksRestored() + " tasks in " + result.getElapsedMillis() + " ms");
+    System.out.println();
+  }
 }
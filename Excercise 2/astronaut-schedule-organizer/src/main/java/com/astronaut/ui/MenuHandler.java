@@ -3,23 +3,36 @@ package com.astronaut.ui;
 import com.astronaut.exceptions.InvalidTimeException;
 import com.astronaut.exceptions.TaskConflictException;
 import com.astronaut.exceptions.TaskNotFoundException;
+import com.astronaut.models.AutoScheduleResult;
+import com.astronaut.models.BatchMode;
+import com.astronaut.models.BatchRowResult;
+import com.astronaut.models.ExportResult;
+import com.astronaut.models.ImportResult;
+import com.astronaut.models.PreemptionResult;
 import com.astronaut.models.Priority;
 import com.astronaut.models.Task;
+import com.astronaut.models.TaskRelocation;
 import com.astronaut.patterns.structural.adapter.MilitaryTimeAdapter;
 import com.astronaut.patterns.structural.adapter.StandardTimeAdapter;
+import com.astronaut.patterns.structural.decorator.TaskDecorator;
+import com.astronaut.services.ScheduleFileService;
 import com.astronaut.services.TaskService;
 import com.astronaut.utils.Logger;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.Scanner;
 
 public class MenuHandler {
   private final TaskService taskService;
+  private final ScheduleFileService scheduleFileService;
   private final Scanner scanner;
   private final Logger logger;
   private boolean running;
 
   public MenuHandler() {
     this.taskService = new TaskService();
+    this.scheduleFileService = new ScheduleFileService(taskService);
     this.scanner = new Scanner(System.in);
     this.logger = Logger.getInstance();
     this.running = true;
@@ -37,7 +50,7 @@ public class MenuHandler {
         int choice = getIntInput("Enter your choice: ");
         processChoice(choice);
       } catch (Exception e) {
-        logger.error("Error in menu handler: " + e.getMessage());
+        logger.error("Error in menu handler: {}", e.getMessage());
         System.out.println("❌ Error: " + e.getMessage() + "\n");
       }
     }
@@ -60,6 +73,10 @@ public class MenuHandler {
     System.out.println("10. Sort by Priority");
     System.out.println("11. Add Task with Reminder");
     System.out.println("12. Add Task with Notes");
+    System.out.println("13. Import Tasks from File");
+    System.out.println("14. Export Tasks to File");
+    System.out.println("15. Auto-Schedule Task");
+    System.out.println("16. Add Task (Move Lower Priority Tasks)");
     System.out.println("0. Exit");
     System.out.println("===============================");
   }
@@ -78,6 +95,10 @@ public class MenuHandler {
       case 10 -> sortByPriority();
       case 11 -> addTaskWithReminder();
       case 12 -> addTaskWithNotes();
+      case 13 -> importTasks();
+      case 14 -> exportTasks();
+      case 15 -> autoScheduleTask();
+      case 16 -> addTaskWithPreemption();
       case 0 -> exitApplication();
       default -> System.out.println("❌ Invalid choice. Please try again.");
     }
@@ -219,7 +240,7 @@ public class MenuHandler {
       String priority = getStringInput("Priority (LOW/MEDIUM/HIGH/CRITICAL): ");
       int reminderMinutes = getIntInput("Reminder (minutes before): ");
 
-      Task decoratedTask =
+      TaskDecorator decoratedTask =
           taskService.addTaskWithReminder(description, startTime, endTime, priority, reminderMinutes);
       System.out.println("✅ Task added with reminder!");
       System.out.println(" " + decoratedTask + "\n");
@@ -237,7 +258,7 @@ public class MenuHandler {
       String priority = getStringInput("Priority (LOW/MEDIUM/HIGH/CRITICAL): ");
       String notes = getStringInput("Notes: ");
 
-      Task decoratedTask =
+      TaskDecorator decoratedTask =
           taskService.addTaskWithNotes(description, startTime, endTime, priority, notes);
       System.out.println("✅ Task added with notes!");
       System.out.println(" " + decoratedTask + "\n");
@@ -246,6 +267,86 @@ public class MenuHandler {
     }
   }
 
+  private void importTasks() {
+    try {
+      System.out.println("\n--- Import Tasks from File ---");
+      String file = getStringInput("File (.csv or .jsonl): ");
+      String allOrNothing = getStringInput("Reject the whole file if any row fails? (y/n): ");
+      BatchMode mode = allOrNothing.equalsIgnoreCase("y") ? BatchMode.ALL_OR_NOTHING : BatchMode.BEST_EFFORT;
+
+      ImportResult result = scheduleFileService.importTasks(Paths.get(file), mode);
+      System.out.printf(
+          "✅ Imported %d of %d rows (%.0f rows/sec)%n",
+          result.getAddedCount(), result.getRowsRead(), result.getRowsPerSecond());
+      List<BatchRowResult> failures = result.getFailures();
+      for (int i = 0; i < Math.min(failures.size(), 10); i++) {
+        System.out.println(" " + failures.get(i));
+      }
+      if (result.getFailedCount() > 10) {
+        System.out.println(" ... and " + (result.getFailedCount() - 10) + " more failed rows");
+      }
+      System.out.println();
+    } catch (IOException | IllegalArgumentException e) {
+      System.out.println("❌ " + e.getMessage() + "\n");
+    }
+  }
+
+  private void exportTasks() {
+    try {
+      System.out.println("\n--- Export Tasks to File ---");
+      String file = getStringInput("File (.csv or .jsonl): ");
+
+      ExportResult result = scheduleFileService.exportTasks(Paths.get(file));
+      System.out.printf(
+          "✅ Exported %d tasks (%.0f rows/sec)%n%n", result.getRowsWritten(), result.getRowsPerSecond());
+    } catch (IOException | IllegalArgumentException e) {
+      System.out.println("❌ " + e.getMessage() + "\n");
+    }
+  }
+
+  private void autoScheduleTask() {
+    try {
+      System.out.println("\n--- Auto-Schedule Task ---");
+      String description = getStringInput("Description: ");
+      int durationMinutes = getIntInput("Duration (minutes): ");
+      String priority = getStringInput("Priority (LOW/MEDIUM/HIGH/CRITICAL): ");
+      String earliestStart = getStringInput("Earliest Start (HH:mm): ");
+      String latestEnd = getStringInput("Latest End (HH:mm): ");
+
+      AutoScheduleResult result =
+          taskService.autoScheduleTask(description, durationMinutes, priority, earliestStart, latestEnd);
+      if (result.getPlaced().isEmpty()) {
+        System.out.println("❌ No free slot of " + durationMinutes + " minutes in that window\n");
+      } else {
+        System.out.println("✅ Task scheduled: " + result.getPlaced().get(0) + "\n");
+      }
+    } catch (InvalidTimeException | IllegalArgumentException e) {
+      System.out.println("❌ " + e.getMessage() + "\n");
+    }
+  }
+
+  private void addTaskWithPreemption() {
+    try {
+      System.out.println("\n--- Add Task (Move Lower Priority Tasks) ---");
+      String description = getStringInput("Description: ");
+      String startTime = getStringInput("Start Time (HH:mm, e.g., 09:00): ");
+      String endTime = getStringInput("End Time (HH:mm, e.g., 10:00): ");
+      String priority = getStringInput("Priority (LOW/MEDIUM/HIGH/CRITICAL): ");
+
+      PreemptionResult result = taskService.addTaskWithPreemption(description, startTime, endTime, priority);
+      System.out.println("✅ Task added successfully!");
+      for (TaskRelocation relocation : result.getRelocated()) {
+        System.out.println("   Moved " + relocation);
+      }
+      for (Task task : result.getUnplaced()) {
+        System.out.println("⚠️ No free time left for '" + task.getDescription() + "', it was removed");
+      }
+      System.out.println();
+    } catch (InvalidTimeException | TaskConflictException e) {
+      System.out.println("❌ " + e.getMessage() + "\n");
+    }
+  }
+
   private void exitApplication() {
     System.out.println("\nThank you for using Astronaut Schedule Organizer!");
     System.out.println("Total tasks managed: " + taskService.getTaskCount());
@@ -0,0 +1,63 @@
+package com.astronaut.utils;
+
+public class AsyncLogConfig {
+  private static final int DEFAULT_BUFFER_CAPACITY = 8192;
+  private static final int DEFAULT_BATCH_BYTES = 64 * 1024;
+  private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 200;
+
+  private final int bufferCapacity;
+  private final LogOverflowPolicy overflowPolicy;
+  private final int batchBytes;
+  private final long flushIntervalMillis;
+  private final boolean consoleOutput;
+
+  public AsyncLogConfig(
+      int bufferCapacity,
+      LogOverflowPolicy overflowPolicy,
+      int batchBytes,
+      long flushIntervalMillis,
+      boolean consoleOutput) {
+    if (bufferCapacity <= 0) {
+      throw new IllegalArgumentException("Buffer capacity must be positive");
+    }
+    if (overflowPolicy == null) {
+      throw new IllegalArgumentException("Overflow policy cannot be null");
+    }
+    if (batchBytes <= 0) {
+      throw new IllegalArgumentException("Batch size must be positive");
+    }
+    if (flushIntervalMillis <= 0) {
+      throw new IllegalArgumentException("Flush interval must be positive");
+    }
+    this.bufferCapacity = bufferCapacity;
+    this.overflowPolicy = overflowPolicy;
+    this.batchBytes = batchBytes;
+    this.flushIntervalMillis = flushIntervalMillis;
+    this.consoleOutput = consoleOutput;
+  }
+
+  public static AsyncLogConfig defaults() {
+    return new AsyncLogConfig(
+        DEFAULT_BUFFER_CAPACITY, LogOverflowPolicy.BLOCK, DEFAULT_BATCH_BYTES, DEFAULT_FLUSH_INTERVAL_MILLIS, true);
+  }
+
+  public int getBufferCapacity() {
+    return bufferCapacity;
+  }
+
+  public LogOverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  public int getBatchBytes() {
+    return batchBytes;
+  }
+
+  public long getFlushIntervalMillis() {
+    return flushIntervalMillis;
+  }
+
+  public boolean isConsoleOutput() {
+    return consoleOutput;
+  }
+}
@@ -0,0 +1,209 @@
+package com.astronaut.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+
+// Background half of Logger's async mode. Callers only enqueue an event; one daemon thread
+// formats, batches and appends to a log file channel that stays open until close. Events that
+// arrive once close() has begun and that the worker will not see go to the fallback writer.
+class AsyncLogWriter {
+  private static final int DRAIN_LIMIT = 1024;
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final long BLOCKED_PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  private static final class LogEvent {
+    private final long timestampMillis;
+    private final LogLevel level;
+    private final String message;
+
+    private LogEvent(long timestampMillis, LogLevel level, String message) {
+      this.timestampMillis = timestampMillis;
+      this.level = level;
+      this.message = message;
+    }
+  }
+
+  private final MpscRingBuffer<LogEvent> buffer;
+  private final AsyncLogConfig config;
+  private final DateTimeFormatter formatter;
+  private final BiConsumer<LogLevel, String> fallbackWriter;
+  private final FileChannel channel;
+  private final ByteBuffer batch;
+  private final StringBuilder consoleBatch;
+  private final AtomicLong droppedCount;
+  private final long flushIntervalNanos;
+  private final Thread worker;
+  private volatile boolean running;
+  private long lastFlushNanos;
+  private long cachedSecond;
+  private String cachedTimestamp;
+
+  AsyncLogWriter(
+      Path logFile, AsyncLogConfig config, DateTimeFormatter formatter, BiConsumer<LogLevel, String> fallbackWriter)
+      throws IOException {
+    this.buffer = new MpscRingBuffer<>(config.getBufferCapacity());
+    this.config = config;
+    this.formatter = formatter;
+    this.fallbackWriter = fallbackWriter;
+    this.channel =
+        FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    this.batch = ByteBuffer.allocateDirect(config.getBatchBytes());
+    this.consoleBatch = new StringBuilder();
+    this.droppedCount = new AtomicLong();
+    this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(config.getFlushIntervalMillis());
+    this.cachedSecond = Long.MIN_VALUE;
+    this.running = true;
+    this.worker = new Thread(this::run, "async-logger");
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  void submit(LogLevel level, String message) {
+    LogEvent event = new LogEvent(System.currentTimeMillis(), level, message);
+    if (!buffer.offer(event)) {
+      if (!running) {
+        fallbackWriter.accept(level, message);
+        return;
+      }
+      if (config.getOverflowPolicy() == LogOverflowPolicy.DROP) {
+        droppedCount.incrementAndGet();
+        return;
+      }
+      while (!buffer.offer(event)) {
+        if (!running) {
+          fallbackWriter.accept(level, message);
+          return;
+        }
+        LockSupport.unpark(worker);
+        LockSupport.parkNanos(this, BLOCKED_PRODUCER_PARK_NANOS);
+      }
+    }
+    // Still running after the offer means the worker will see the event before it exits.
+    if (!running) {
+      drainAfterStop();
+    }
+  }
+
+  // The worker may have made its last pass before the event landed, so wait for it to exit and
+  // hand whatever it left behind to the fallback writer. Only one thread may consume at a time.
+  private synchronized void drainAfterStop() {
+    awaitWorker();
+    if (worker.isAlive()) {
+      droppedCount.incrementAndGet();
+      return;
+    }
+    buffer.drain(event -> fallbackWriter.accept(event.level, event.message), Integer.MAX_VALUE);
+  }
+
+  private void awaitWorker() {
+    try {
+      worker.join(TimeUnit.SECONDS.toMillis(5));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  long getDroppedCount() {
+    return droppedCount.get();
+  }
+
+  // Stops accepting new work, drains what is queued, then flushes and closes the file.
+  void close() {
+    running = false;
+    LockSupport.unpark(worker);
+    awaitWorker();
+  }
+
+  private void run() {
+    lastFlushNanos = System.nanoTime();
+    long reportedDrops = 0;
+    while (running || !buffer.isEmpty()) {
+      int drained = buffer.drain(this::append, DRAIN_LIMIT);
+      long dropped = droppedCount.get();
+      if (dropped != reportedDrops) {
+        append(
+            new LogEvent(
+                System.currentTimeMillis(),
+                LogLevel.WARN,
+                (dropped - reportedDrops) + " log messages dropped (buffer full)"));
+        reportedDrops = dropped;
+      }
+      boolean intervalElapsed = System.nanoTime() - lastFlushNanos >= flushIntervalNanos;
+      if (drained == 0 || intervalElapsed) {
+        flush();
+      }
+      if (drained == 0 && running) {
+        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+      }
+    }
+    flush();
+    try {
+      channel.force(false);
+      channel.close();
+    } catch (IOException e) {
+      System.err.println("Failed to close log file: " + e.getMessage());
+    }
+  }
+
+  private void append(LogEvent event) {
+    String line = "[" + timestamp(event.timestampMillis) + "] [" + event.level.name() + "] " + event.message;
+    if (config.isConsoleOutput()) {
+      consoleBatch.append(line).append(System.lineSeparator());
+    }
+    byte[] bytes = (line + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+    if (bytes.length > batch.remaining()) {
+      flush();
+    }
+    if (bytes.length > batch.capacity()) {
+      writeFully(ByteBuffer.wrap(bytes));
+    } else {
+      batch.put(bytes);
+    }
+  }
+
+  private void flush() {
+    if (consoleBatch.length() > 0) {
+      System.out.print(consoleBatch);
+      consoleBatch.setLength(0);
+    }
+    if (batch.position() > 0) {
+      batch.flip();
+      writeFully(batch);
+      batch.clear();
+    }
+    lastFlushNanos = System.nanoTime();
+  }
+
+  private void writeFully(ByteBuffer source) {
+    try {
+      while (source.hasRemaining()) {
+        channel.write(source);
+      }
+    } catch (IOException e) {
+      source.position(source.limit());
+      System.err.println("Failed to write to log file: " + e.getMessage());
+    }
+  }
+
+  private String timestamp(long timestampMillis) {
+    long second = Math.floorDiv(timestampMillis, 1000L);
+    if (second != cachedSecond) {
+      cachedSecond = second;
+      cachedTimestamp =
+          LocalDateTime.ofInstant(Instant.ofEpochSecond(second), ZoneId.systemDefault()).format(formatter);
+    }
+    return cachedTimestamp;
+  }
+}
@@ -0,0 +1,34 @@
+package com.astronaut.utils;
+
+public enum LogLevel {
+  DEBUG(1),
+  INFO(2),
+  WARN(3),
+  ERROR(4);
+
+  private final int severity;
+
+  LogLevel(int severity) {
+    this.severity = severity;
+  }
+
+  public int getSeverity() {
+    return severity;
+  }
+
+  public boolean isAtLeast(LogLevel threshold) {
+    return severity >= threshold.severity;
+  }
+
+  public static LogLevel fromString(String value) {
+    if (value == null || value.trim().isEmpty()) {
+      throw new IllegalArgumentException("Log level cannot be null or empty");
+    }
+    for (LogLevel level : LogLevel.values()) {
+      if (level.name().equalsIgnoreCase(value.trim())) {
+        return level;
+      }
+    }
+    throw new IllegalArgumentException("Invalid log level: " + value);
+  }
+}
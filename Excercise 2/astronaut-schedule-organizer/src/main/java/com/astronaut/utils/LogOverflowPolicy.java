@@ -0,0 +1,6 @@
+package com.astronaut.utils;
+
+public enum LogOverflowPolicy {
+  DROP,
+  BLOCK
+}
@@ -3,49 +3,286 @@ package com.astronaut.utils;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
 
 public class Logger {
-  private static Logger instance;
+  private static volatile Logger instance;
   private static final String LOG_FILE = "logs/application.log";
+  private static final String LEVEL_PROPERTY = "astronaut.log.level";
+  private static final String ASYNC_PROPERTY = "astronaut.log.async";
   private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
+  private volatile LogLevel level;
+  private volatile AsyncLogWriter asyncWriter;
+  private boolean shutdownHookRegistered;
+
   private Logger() {
     // Create logs directory if it doesn't exist
     new java.io.File("logs").mkdirs();
+    String configuredLevel = System.getProperty(LEVEL_PROPERTY);
+    this.level = configuredLevel == null ? LogLevel.DEBUG : LogLevel.fromString(configuredLevel);
+    if (Boolean.getBoolean(ASYNC_PROPERTY)) {
+      enableAsync(AsyncLogConfig.defaults());
+    }
   }
 
   public static Logger getInstance() {
-    if (instance == null) {
+    Logger result = instance;
+    if (result == null) {
       synchronized (Logger.class) {
-        if (instance == null) {
-          instance = new Logger();
+        result = instance;
+        if (result == null) {
+          result = new Logger();
+          instance = result;
         }
       }
     }
-    return instance;
+    return result;
+  }
+
+  public void setLevel(LogLevel level) {
+    if (level == null) {
+      throw new IllegalArgumentException("Log level cannot be null");
+    }
+    this.level = level;
+  }
+
+  public LogLevel getLevel() {
+    return level;
+  }
+
+  public boolean isEnabled(LogLevel messageLevel) {
+    return messageLevel.isAtLeast(level);
+  }
+
+  public boolean isDebugEnabled() {
+    return isEnabled(LogLevel.DEBUG);
+  }
+
+  public boolean isInfoEnabled() {
+    return isEnabled(LogLevel.INFO);
+  }
+
+  // Switches to a background writer: callers only enqueue, and the log file stays open.
+  public synchronized void enableAsync(AsyncLogConfig config) {
+    if (asyncWriter != null) {
+      return;
+    }
+    try {
+      asyncWriter = new AsyncLogWriter(Paths.get(LOG_FILE), config, formatter, this::writeSync);
+      if (!shutdownHookRegistered) {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::disableAsync, "async-logger-shutdown"));
+        shutdownHookRegistered = true;
+      }
+    } catch (IOException e) {
+      System.err.println("Failed to open log file for async logging: " + e.getMessage());
+    }
+  }
+
+  // Drains and flushes everything queued so far, then returns to synchronous logging.
+  public synchronized void disableAsync() {
+    AsyncLogWriter writer = asyncWriter;
+    if (writer != null) {
+      asyncWriter = null;
+      writer.close();
+    }
+  }
+
+  public boolean isAsync() {
+    return asyncWriter != null;
+  }
+
+  public long getDroppedMessageCount() {
+    AsyncLogWriter writer = asyncWriter;
+    return writer == null ? 0 : writer.getDroppedCount();
   }
 
   public void info(String message) {
-    log("INFO", message);
+    log(LogLevel.INFO, message);
   }
 
   public void error(String message) {
-    log("ERROR", message);
+    log(LogLevel.ERROR, message);
   }
 
   public void warn(String message) {
-    log("WARN", message);
+    log(LogLevel.WARN, message);
   }
 
   public void debug(String message) {
-    log("DEBUG", message);
+    log(LogLevel.DEBUG, message);
+  }
+
+  // The overloads below build the message only when the level is enabled. "{}" in a pattern is
+  // replaced by the next argument; fixed arities avoid allocating a varargs array per call. An
+  // int or long passed as Object is boxed by the caller before the level is checked, so counts
+  // and ids go through the long overloads, which allocate nothing when the level is off. A char
+  // widens to long there too and prints as a number; pass it as a String.
+
+  public void info(String pattern, Object arg) {
+    if (isEnabled(LogLevel.INFO)) {
+      log(LogLevel.INFO, format(pattern, arg, null, 1));
+    }
+  }
+
+  public void info(String pattern, Object arg1, Object arg2) {
+    if (isEnabled(LogLevel.INFO)) {
+      log(LogLevel.INFO, format(pattern, arg1, arg2, 2));
+    }
+  }
+
+  public void info(String pattern, long arg) {
+    if (isEnabled(LogLevel.INFO)) {
+      log(LogLevel.INFO, format(pattern, arg, 0, 1));
+    }
+  }
+
+  public void info(String pattern, long arg1, long arg2) {
+    if (isEnabled(LogLevel.INFO)) {
+      log(LogLevel.INFO, format(pattern, arg1, arg2, 2));
+    }
+  }
+
+  public void info(Supplier<String> messageSupplier) {
+    if (isEnabled(LogLevel.INFO)) {
+      log(LogLevel.INFO, messageSupplier.get());
+    }
+  }
+
+  public void warn(String pattern, Object arg) {
+    if (isEnabled(LogLevel.WARN)) {
+      log(LogLevel.WARN, format(pattern, arg, null, 1));
+    }
+  }
+
+  public void warn(String pattern, Object arg1, Object arg2) {
+    if (isEnabled(LogLevel.WARN)) {
+      log(LogLevel.WARN, format(pattern, arg1, arg2, 2));
+    }
+  }
+
+  public void warn(String pattern, long arg) {
+    if (isEnabled(LogLevel.WARN)) {
+      log(LogLevel.WARN, format(pattern, arg, 0, 1));
+    }
+  }
+
+  public void warn(String pattern, long arg1, long arg2) {
+    if (isEnabled(LogLevel.WARN)) {
+      log(LogLevel.WARN, format(pattern, arg1, arg2, 2));
+    }
+  }
+
+  public void warn(Supplier<String> messageSupplier) {
+    if (isEnabled(LogLevel.WARN)) {
+      log(LogLevel.WARN, messageSupplier.get());
+    }
+  }
+
+  public void error(String pattern, Object arg) {
+    if (isEnabled(LogLevel.ERROR)) {
+      log(LogLevel.ERROR, format(pattern, arg, null, 1));
+    }
+  }
+
+  public void error(String pattern, Object arg1, Object arg2) {
+    if (isEnabled(LogLevel.ERROR)) {
+      log(LogLevel.ERROR, format(pattern, arg1, arg2, 2));
+    }
+  }
+
+  public void error(String pattern, long arg) {
+    if (isEnabled(LogLevel.ERROR)) {
+      log(LogLevel.ERROR, format(pattern, arg, 0, 1));
+    }
+  }
+
+  public void error(String pattern, long arg1, long arg2) {
+    if (isEnabled(LogLevel.ERROR)) {
+      log(LogLevel.ERROR, format(pattern, arg1, arg2, 2));
+    }
+  }
+
+  public void error(Supplier<String> messageSupplier) {
+    if (isEnabled(LogLevel.ERROR)) {
+      log(LogLevel.ERROR, messageSupplier.get());
+    }
+  }
+
+  public void debug(String pattern, Object arg) {
+    if (isEnabled(LogLevel.DEBUG)) {
+      log(LogLevel.DEBUG, format(pattern, arg, null, 1));
+    }
+  }
+
+  public void debug(String pattern, Object arg1, Object arg2) {
+    if (isEnabled(LogLevel.DEBUG)) {
+      log(LogLevel.DEBUG, format(pattern, arg1, arg2, 2));
+    }
+  }
+
+  public void debug(String pattern, long arg) {
+    if (isEnabled(LogLevel.DEBUG)) {
+      log(LogLevel.DEBUG, format(pattern, arg, 0, 1));
+    }
+  }
+
+  public void debug(String pattern, long arg1, long arg2) {
+    if (isEnabled(LogLevel.DEBUG)) {
+      log(LogLevel.DEBUG, format(pattern, arg1, arg2, 2));
+    }
+  }
+
+  public void debug(Supplier<String> messageSupplier) {
+    if (isEnabled(LogLevel.DEBUG)) {
+      log(LogLevel.DEBUG, messageSupplier.get());
+    }
+  }
+
+  private static String format(String pattern, Object arg1, Object arg2, int argCount) {
+    StringBuilder builder = new StringBuilder(pattern.length() + 32);
+    int used = 0;
+    int from = 0;
+    int placeholder;
+    while (used < argCount && (placeholder = pattern.indexOf("{}", from)) >= 0) {
+      builder.append(pattern, from, placeholder).append(used == 0 ? arg1 : arg2);
+      from = placeholder + 2;
+      used++;
+    }
+    return builder.append(pattern, from, pattern.length()).toString();
+  }
+
+  private static String format(String pattern, long arg1, long arg2, int argCount) {
+    StringBuilder builder = new StringBuilder(pattern.length() + 32);
+    int used = 0;
+    int from = 0;
+    int placeholder;
+    while (used < argCount && (placeholder = pattern.indexOf("{}", from)) >= 0) {
+      builder.append(pattern, from, placeholder).append(used == 0 ? arg1 : arg2);
+      from = placeholder + 2;
+      used++;
+    }
+    return builder.append(pattern, from, pattern.length()).toString();
+  }
+
+  private void log(LogLevel messageLevel, String message) {
+    if (!messageLevel.isAtLeast(level)) {
+      return;
+    }
+    AsyncLogWriter writer = asyncWriter;
+    if (writer != null) {
+      writer.submit(messageLevel, message);
+      return;
+    }
+    writeSync(messageLevel, message);
   }
 
-  private void log(String level, String message) {
+  private synchronized void writeSync(LogLevel messageLevel, String message) {
     String timestamp = LocalDateTime.now().format(formatter);
-    String logMessage = String.format("[%s] [%s] %s", timestamp, level, message);
+    String logMessage = String.format("[%s] [%s] %s", timestamp, messageLevel.name(), message);
 
     // Console output
     System.out.println(logMessage);
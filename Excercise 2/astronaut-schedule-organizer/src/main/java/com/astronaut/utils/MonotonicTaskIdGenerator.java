@@ -0,0 +1,37 @@
+package com.astronaut.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Time-ordered 64-bit ids printed as decimal: milliseconds since 2024-01-01 UTC in the high 42
+// bits and a sequence in the low 22. Ids only ever increase, so they sort in creation order. A
+// burst of more than 4M ids in one millisecond borrows from the next millisecond, and a clock
+// that steps back keeps counting from the last id. Ids restored from disk are fed to observe(),
+// so a clock that was wound back between runs cannot reissue them.
+public class MonotonicTaskIdGenerator implements TaskIdGenerator {
+  private static final long EPOCH_MILLIS = 1_704_067_200_000L;
+  private static final int SEQUENCE_BITS = 22;
+
+  private final AtomicLong lastId;
+
+  public MonotonicTaskIdGenerator() {
+    this.lastId = new AtomicLong();
+  }
+
+  @Override
+  public String nextId() {
+    return Long.toString(nextLongId());
+  }
+
+  public long nextLongId() {
+    long floor = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+    return lastId.accumulateAndGet(floor, (last, timeFloor) -> Math.max(last + 1, timeFloor));
+  }
+
+  @Override
+  public void observe(String id) {
+    long value = TaskIds.parseNumericId(id);
+    if (value >= 0) {
+      lastId.accumulateAndGet(value, Math::max);
+    }
+  }
+}
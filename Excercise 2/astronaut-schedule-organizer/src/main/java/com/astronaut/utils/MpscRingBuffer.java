@@ -0,0 +1,72 @@
+package com.astronaut.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+// Bounded lock-free queue for many producers and a single consumer. Producers claim a slot with
+// one CAS on the tail and publish into it; the consumer clears a slot before advancing the head,
+// so a producer that sees free capacity is guaranteed an empty slot.
+public class MpscRingBuffer<E> {
+  private final AtomicReferenceArray<E> slots;
+  private final int mask;
+  private final AtomicLong tail;
+  private volatile long head;
+
+  public MpscRingBuffer(int requestedCapacity) {
+    if (requestedCapacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+    int capacity = Integer.highestOneBit(Math.max(requestedCapacity - 1, 1)) << 1;
+    this.slots = new AtomicReferenceArray<>(capacity);
+    this.mask = capacity - 1;
+    this.tail = new AtomicLong();
+  }
+
+  public boolean offer(E element) {
+    if (element == null) {
+      throw new IllegalArgumentException("Element cannot be null");
+    }
+    while (true) {
+      long claimed = tail.get();
+      if (claimed - head > mask) {
+        return false;
+      }
+      if (tail.compareAndSet(claimed, claimed + 1)) {
+        slots.set((int) claimed & mask, element);
+        return true;
+      }
+    }
+  }
+
+  // Consumer thread only. Stops early at a slot that has been claimed but not yet published.
+  public int drain(Consumer<? super E> consumer, int limit) {
+    long current = head;
+    int drained = 0;
+    while (drained < limit) {
+      int index = (int) current & mask;
+      E element = slots.get(index);
+      if (element == null) {
+        break;
+      }
+      slots.lazySet(index, null);
+      current++;
+      head = current;
+      drained++;
+      consumer.accept(element);
+    }
+    return drained;
+  }
+
+  public boolean isEmpty() {
+    return tail.get() == head;
+  }
+
+  public int size() {
+    return (int) Math.max(0, tail.get() - head);
+  }
+
+  public int capacity() {
+    return mask + 1;
+  }
+}
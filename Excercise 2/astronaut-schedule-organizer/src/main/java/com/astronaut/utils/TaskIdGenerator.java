@@ -0,0 +1,9 @@
+package com.astronaut.utils;
+
+public interface TaskIdGenerator {
+  String nextId();
+
+  // Called with ids that already exist, such as tasks restored from disk, so the generator
+  // never hands them out again.
+  default void observe(String id) {}
+}
@@ -0,0 +1,22 @@
+package com.astronaut.utils;
+
+public enum TaskIdStrategy {
+  MONOTONIC,
+  UUID;
+
+  public TaskIdGenerator createGenerator() {
+    return this == UUID ? new UuidTaskIdGenerator() : new MonotonicTaskIdGenerator();
+  }
+
+  public static TaskIdStrategy fromString(String value) {
+    if (value == null || value.trim().isEmpty()) {
+      throw new IllegalArgumentException("Task id strategy cannot be null or empty");
+    }
+    for (TaskIdStrategy strategy : TaskIdStrategy.values()) {
+      if (strategy.name().equalsIgnoreCase(value.trim())) {
+        return strategy;
+      }
+    }
+    throw new IllegalArgumentException("Invalid task id strategy: " + value);
+  }
+}
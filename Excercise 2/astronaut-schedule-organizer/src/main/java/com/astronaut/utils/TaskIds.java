@@ -0,0 +1,57 @@
+package com.astronaut.utils;
+
+// The id generator new tasks draw from. Monotonic by default; -Dastronaut.id.generator=UUID
+// switches to random UUIDs.
+public final class TaskIds {
+  private static final String GENERATOR_PROPERTY = "astronaut.id.generator";
+
+  private static volatile TaskIdGenerator generator = defaultGenerator();
+
+  private TaskIds() {}
+
+  public static String next() {
+    return generator.nextId();
+  }
+
+  public static void observe(String id) {
+    generator.observe(id);
+  }
+
+  public static TaskIdGenerator getGenerator() {
+    return generator;
+  }
+
+  public static void setGenerator(TaskIdGenerator idGenerator) {
+    if (idGenerator == null) {
+      throw new IllegalArgumentException("Task id generator cannot be null");
+    }
+    generator = idGenerator;
+  }
+
+  // The id as a long when it is a canonical non-negative decimal number, such as a monotonic id,
+  // otherwise -1.
+  public static long parseNumericId(String id) {
+    int length = id == null ? 0 : id.length();
+    if (length == 0 || length > 19 || (length > 1 && id.charAt(0) == '0')) {
+      return -1;
+    }
+    long value = 0;
+    for (int i = 0; i < length; i++) {
+      int digit = id.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      value = value * 10 + digit;
+      if (value < 0) {
+        return -1;
+      }
+    }
+    return value;
+  }
+
+  private static TaskIdGenerator defaultGenerator() {
+    String configured = System.getProperty(GENERATOR_PROPERTY);
+    TaskIdStrategy strategy = configured == null ? TaskIdStrategy.MONOTONIC : TaskIdStrategy.fromString(configured);
+    return strategy.createGenerator();
+  }
+}
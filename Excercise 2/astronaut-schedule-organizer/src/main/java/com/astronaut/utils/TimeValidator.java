@@ -7,11 +7,22 @@ import java.time.format.DateTimeParseException;
 
 public class TimeValidator {
   private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+  private static final LocalTime[] MINUTES_OF_DAY = new LocalTime[24 * 60];
+
+  static {
+    for (int minute = 0; minute < MINUTES_OF_DAY.length; minute++) {
+      MINUTES_OF_DAY[minute] = LocalTime.of(minute / 60, minute % 60);
+    }
+  }
 
   public static LocalTime validateAndParseTime(String timeStr) throws InvalidTimeException {
     if (timeStr == null || timeStr.trim().isEmpty()) {
       throw new InvalidTimeException("Time cannot be null or empty");
     }
+    LocalTime fastPath = parsePlainTime(timeStr);
+    if (fastPath != null) {
+      return fastPath;
+    }
     try {
       LocalTime time = LocalTime.parse(timeStr.trim(), TIME_FORMATTER);
       return time;
@@ -21,6 +32,37 @@ public class TimeValidator {
     }
   }
 
+  // Reads a plain "HH:mm" (surrounding whitespace allowed) without allocating. Returns null for
+  // anything else, including "24:00", so the formatter keeps deciding the unusual cases.
+  private static LocalTime parsePlainTime(String timeStr) {
+    int from = 0;
+    int to = timeStr.length();
+    while (from < to && timeStr.charAt(from) <= ' ') {
+      from++;
+    }
+    while (to > from && timeStr.charAt(to - 1) <= ' ') {
+      to--;
+    }
+    if (to - from != 5 || timeStr.charAt(from + 2) != ':') {
+      return null;
+    }
+    int hour = twoDigits(timeStr, from);
+    int minute = twoDigits(timeStr, from + 3);
+    if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+      return null;
+    }
+    return MINUTES_OF_DAY[hour * 60 + minute];
+  }
+
+  private static int twoDigits(String value, int index) {
+    int tens = value.charAt(index) - '0';
+    int ones = value.charAt(index + 1) - '0';
+    if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+      return -1;
+    }
+    return tens * 10 + ones;
+  }
+
   public static void validateTimeRange(LocalTime startTime, LocalTime endTime) throws InvalidTimeException {
     if (startTime == null || endTime == null) {
       throw new InvalidTimeException("Start time and end time cannot be null");
@@ -0,0 +1,11 @@
+package com.astronaut.utils;
+
+import java.util.UUID;
+
+// Random UUIDs, for ids that must be unique across systems. Each one draws from SecureRandom.
+public class UuidTaskIdGenerator implements TaskIdGenerator {
+  @Override
+  public String nextId() {
+    return UUID.randomUUID().toString();
+  }
+}
@@ -0,0 +1,151 @@
+package com.astronaut.patterns.creational.singleton;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.astronaut.exceptions.TaskConflictException;
+import com.astronaut.models.BatchMode;
+import com.astronaut.models.BatchResult;
+import com.astronaut.models.BatchRowStatus;
+import com.astronaut.models.Priority;
+import com.astronaut.models.Task;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.jupiter.api.Test;
+
+// Writers race for the same slots: every thread offers its own overlapping task for each slot,
+// so the conflict check and the insert must be one atomic step for exactly one to win.
+class ScheduleManagerConcurrencyTest {
+  private static final int THREADS = 8;
+  private static final int SLOT_MINUTES = 6;
+  private static final int SLOTS = 24 * 60 / SLOT_MINUTES;
+  private static final int ROUNDS = 20;
+
+  @Test
+  void exactlyOneTaskWinsEachContestedSlot() throws Exception {
+    for (int round = 0; round < ROUNDS; round++) {
+      ScheduleManager schedule = emptySchedule();
+      AtomicIntegerArray winners = new AtomicIntegerArray(SLOTS);
+      race(
+          thread -> {
+            for (int slot = 0; slot < SLOTS; slot++) {
+              try {
+                schedule.addTask(contender(thread, slot));
+                winners.incrementAndGet(slot);
+              } catch (TaskConflictException e) {
+                // Another thread took this slot first.
+              }
+            }
+          });
+
+      for (int slot = 0; slot < SLOTS; slot++) {
+        assertEquals(1, winners.get(slot), "winners of slot " + slot);
+      }
+      assertNoOverlaps(schedule.getAllTasks());
+    }
+  }
+
+  @Test
+  void batchesAndSingleAddsDoNotDoubleBookSlots() throws Exception {
+    for (int round = 0; round < ROUNDS; round++) {
+      ScheduleManager schedule = emptySchedule();
+      AtomicIntegerArray winners = new AtomicIntegerArray(SLOTS);
+      race(
+          thread -> {
+            if (thread % 2 == 0) {
+              List<Task> batch = new ArrayList<>(SLOTS);
+              for (int slot = 0; slot < SLOTS; slot++) {
+                batch.add(contender(thread, slot));
+              }
+              BatchResult result = schedule.addTasks(batch, BatchMode.BEST_EFFORT);
+              for (int slot = 0; slot < SLOTS; slot++) {
+                if (result.getRows().get(slot).getStatus() == BatchRowStatus.ADDED) {
+                  winners.incrementAndGet(slot);
+                }
+              }
+              return;
+            }
+            for (int slot = SLOTS - 1; slot >= 0; slot--) {
+              try {
+                schedule.addTask(contender(thread, slot));
+                winners.incrementAndGet(slot);
+              } catch (TaskConflictException e) {
+                // Another thread took this slot first.
+              }
+            }
+          });
+
+      for (int slot = 0; slot < SLOTS; slot++) {
+        assertEquals(1, winners.get(slot), "winners of slot " + slot);
+      }
+      assertNoOverlaps(schedule.getAllTasks());
+    }
+  }
+
+  private static ScheduleManager emptySchedule() {
+    ScheduleManager schedule = ScheduleManager.getInstance();
+    schedule.clear();
+    return schedule;
+  }
+
+  private interface Contender {
+    void run(int thread) throws Exception;
+  }
+
+  // Starts every thread at once and waits for all of them, rethrowing the first failure.
+  private static void race(Contender contender) throws Exception {
+    ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<?>> futures = new ArrayList<>();
+      for (int thread = 0; thread < THREADS; thread++) {
+        int id = thread;
+        futures.add(
+            pool.submit(
+                () -> {
+                  start.await();
+                  contender.run(id);
+                  return null;
+                }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  // Three minutes starting zero to two minutes into the slot, so the contenders for a slot all
+  // overlap each other and none reaches the next slot.
+  private static Task contender(int thread, int slot) {
+    int start = slot * SLOT_MINUTES + thread % 3;
+    return new Task(
+        "Slot " + slot + " thread " + thread,
+        LocalTime.of(start / 60, start % 60),
+        LocalTime.of((start + 3) / 60, (start + 3) % 60),
+        Priority.MEDIUM);
+  }
+
+  private static void assertNoOverlaps(List<Task> tasks) {
+    assertEquals(SLOTS, tasks.size());
+    List<Task> byStartTime = new ArrayList<>(tasks);
+    byStartTime.sort(Comparator.comparing(Task::getStartTime));
+    for (int i = 1; i < byStartTime.size(); i++) {
+      Task previous = byStartTime.get(i - 1);
+      Task next = byStartTime.get(i);
+      assertTrue(
+          !previous.conflictsWith(next),
+          () -> "Stored tasks overlap: " + previous.getDescription() + " and " + next.getDescription());
+    }
+  }
+}